@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi;
+
+/**
+ * The formats in which an OpenAPI document can be written or read.
+ *
+ * @see OpenAPIWriter
+ * @see StaticDocumentReader
+ * @since 4.1
+ */
+public enum DocumentFormat {
+
+    /**
+     * The YAML format, which is the default format of the /openapi endpoint.
+     */
+    YAML,
+
+    /**
+     * The JSON format.
+     */
+    JSON
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+
+/**
+ * Replaces structurally equal Schema objects with a single canonical instance, to reduce the memory used by a model,
+ * and optionally moves repeated schemas into the components of the document, to reduce the size of the document.
+ * <p>
+ * An interner is obtained from {@link OASFactory#createModelInterner()} and keeps a table of the canonical schemas it
+ * has interned. Two schemas are structurally equal if the maps returned by {@link Schema#getAll()} contain the same
+ * properties in the same iteration order, with equal values. Values are compared as follows:
+ * <ul>
+ * <li>schemas are compared structurally</li>
+ * <li>lists are equal if they contain equal elements in the same order, and maps if they contain equal entries in the
+ * same iteration order</li>
+ * <li>other model objects, such as a {@link org.eclipse.microprofile.openapi.models.media.Discriminator}, are equal if
+ * their properties are equal</li>
+ * <li>any other values are compared with {@link Object#equals(Object)}</li>
+ * </ul>
+ * <p>
+ * After interning, a canonical schema may be used in many places of a model, so a change to it is visible in all of
+ * them. Interning is meant for a model which is no longer changed, for example once the {@link OASFilter} has been
+ * applied and before the model is frozen with {@link OpenAPI#freeze()}. An interner is not required to be thread
+ * safe.
+ *
+ * @since 4.1
+ */
+public interface ModelInterner {
+
+    /**
+     * Returns the canonical instance of the given schema.
+     * <p>
+     * The schemas nested in the given schema are interned first, and replaced in the given schema with their canonical
+     * instances. Then, if a structurally equal schema was interned before, that schema is returned. Otherwise the given
+     * schema becomes the canonical instance and is returned.
+     *
+     * @param schema
+     *            the schema to intern, not null
+     * @return the canonical instance of the schema
+     */
+    Schema intern(Schema schema);
+
+    /**
+     * Interns every schema of the given document, including the schemas of its components, and replaces each of them
+     * in the document with its canonical instance.
+     * <p>
+     * The schemas of the components are interned before the other schemas of the document, in the iteration order of
+     * the components, so that a schema of the components is the canonical instance of the structurally equal schemas
+     * of the paths and webhooks. The values of the entries of the schemas of the components are never replaced, even
+     * if two of them are structurally equal, but the schemas nested in them are.
+     *
+     * @param openAPI
+     *            the document, not null
+     * @return the number of schemas which were replaced with the canonical instance of a structurally equal schema
+     */
+    int intern(OpenAPI openAPI);
+
+    /**
+     * Interns the given document, then moves the schemas which occur repeatedly into its components.
+     * <p>
+     * Each schema of the document which is not a reference and occurs at least {@code minOccurrences} times, other
+     * than as the value of an entry of the schemas of the components, is replaced at each occurrence with a new
+     * reference schema:
+     * <ul>
+     * <li>if a structurally equal schema is already one of the schemas of the components, the reference refers to
+     * it</li>
+     * <li>otherwise the schema is added to the schemas of the components with the name returned by the naming
+     * function, and the reference refers to it. The schema is left in place if the function returns {@code null} or a
+     * name which is already used.</li>
+     * </ul>
+     * Schemas which contain other schemas are processed first, so the occurrences of a schema within a schema which has
+     * been moved into the components are only counted once.
+     *
+     * @param openAPI
+     *            the document, not null
+     * @param minOccurrences
+     *            the minimum number of occurrences of a schema to move it, at least 2
+     * @param naming
+     *            the function which returns the name of a new component for a schema, or {@code null} to leave the
+     *            schema in place
+     * @return the schemas added to the components, by name, in the order in which they were added
+     * @throws IllegalArgumentException
+     *             if {@code minOccurrences} is less than 2
+     */
+    Map<String, Schema> hoist(OpenAPI openAPI, int minOccurrences, Function<Schema, String> naming);
+}
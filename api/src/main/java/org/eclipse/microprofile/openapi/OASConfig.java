@@ -31,12 +31,51 @@ public final class OASConfig {
     public static final String MODEL_READER = "mp.openapi.model.reader";
 
     /**
-     * Configuration property to specify the fully qualified name of the OASFilter implementation.
+     * Configuration property to specify the fully qualified name of the OASFilter implementation, or a comma-separated
+     * list of fully qualified names of OASFilter implementations to apply in list order.
      *
      * @see org.eclipse.microprofile.openapi.OASFilter
      */
     public static final String FILTER = "mp.openapi.filter";
 
+    /**
+     * Configuration property to allow the OASFilters to be called from multiple threads in parallel, if they all
+     * implement ThreadSafeOASFilter. Defaults to false.
+     *
+     * @see org.eclipse.microprofile.openapi.ThreadSafeOASFilter
+     * @since 4.1
+     */
+    public static final String FILTER_PARALLEL = "mp.openapi.filter.parallel";
+
+    /**
+     * Configuration property to remove the components which are not referenced, directly or through other components,
+     * from the paths and webhooks of the OpenAPI document, after the OASFilters have been applied. Defaults to false.
+     *
+     * @since 4.1
+     */
+    public static final String COMPONENTS_PRUNE_UNREFERENCED = "mp.openapi.components.prune-unreferenced";
+
+    /**
+     * Configuration property to control the use of a build time snapshot of the OpenAPI document. The value is one of
+     * <code>use</code>, to use a valid snapshot if present, <code>ignore</code>, to always process the document when
+     * the application starts, or <code>require</code>, to fail the deployment if there is no valid snapshot. Defaults
+     * to <code>use</code>.
+     *
+     * @see org.eclipse.microprofile.openapi.SnapshotGenerator
+     * @since 4.1
+     */
+    public static final String SNAPSHOT = "mp.openapi.snapshot";
+
+    /**
+     * Configuration property to specify when the OpenAPI document is built. The value is one of <code>eager</code>, to
+     * build the document when the application is deployed, <code>lazy</code>, to build the document when the /openapi
+     * endpoint is first requested, or <code>background</code>, to build the document on a background thread after the
+     * application is deployed. Defaults to <code>eager</code>.
+     *
+     * @since 4.1
+     */
+    public static final String BUILD_MODE = "mp.openapi.build.mode";
+
     /**
      * Configuration property to disable annotation scanning.
      *
@@ -72,6 +111,14 @@ public final class OASConfig {
      */
     public static final String SCAN_BEANVALIDATION = "mp.openapi.scan.beanvalidation";
 
+    /**
+     * Configuration property to enable or disable the use of the annotation index written by the MicroProfile OpenAPI
+     * annotation processor instead of scanning for annotations. Defaults to true.
+     *
+     * @since 4.1
+     */
+    public static final String SCAN_INDEX = "mp.openapi.scan.index";
+
     /**
      * Configuration property to specify the list of global servers that provide connectivity information.
      *
@@ -16,6 +16,8 @@
 
 package org.eclipse.microprofile.openapi;
 
+import java.util.List;
+
 import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
@@ -93,7 +95,77 @@ public final class OASFactory {
      *             if an instance could not be created, most likely, due to an illegal or inappropriate class
      */
     public static <T extends Constructible> T createObject(Class<T> clazz) {
-        return OASFactoryResolver.instance().createObject(clazz);
+        return OASFactoryResolver.instance().getSupplier(clazz).get();
+    }
+
+    /**
+     * This method creates a new instance of a constructible element from the OpenAPI model tree, sized for the given
+     * number of entries.
+     *
+     * <br>
+     * <br>
+     * The expected size is a hint for models which hold a map of child elements, allowing the implementation to
+     * allocate storage once. It is the number of path items of a {@code Paths} or {@code Callback}, the number of
+     * responses of an {@code APIResponses}, the number of media types of a {@code Content} and the number of schemas of
+     * a {@code Components}. It is ignored for other models and does not limit the number of entries which can be added.
+     *
+     * @param <T>
+     *            describes the type parameter
+     * @param clazz
+     *            represents a model which extends the {@link org.eclipse.microprofile.openapi.models.Constructible}
+     *            interface
+     * @param expectedSize
+     *            the expected number of entries
+     *
+     * @return a new instance of the requested model class
+     *
+     * @throws NullPointerException
+     *             if the specified class is null
+     * @throws IllegalArgumentException
+     *             if an instance could not be created, most likely, due to an illegal or inappropriate class, or if
+     *             the expected size is negative
+     * @since 4.1
+     */
+    public static <T extends Constructible> T createObject(Class<T> clazz, int expectedSize) {
+        return OASFactoryResolver.instance().createObject(clazz, expectedSize);
+    }
+
+    /**
+     * This method creates the given number of new instances of a constructible element from the OpenAPI model tree.
+     *
+     * <br>
+     * <br>
+     * Each element of the returned list is a distinct instance which behaves exactly like an instance returned by
+     * {@link #createObject(Class)}. The returned list is modifiable.
+     *
+     * <br>
+     * <br>
+     * Example:
+     *
+     * <pre>
+     * <code>List&lt;Operation&gt; operations = OASFactory.createObjects(Operation.class, pathCount);
+     * </code>
+     * </pre>
+     *
+     * @param <T>
+     *            describes the type parameter
+     * @param clazz
+     *            represents a model which extends the {@link org.eclipse.microprofile.openapi.models.Constructible}
+     *            interface
+     * @param count
+     *            the number of instances to create
+     *
+     * @return a list containing {@code count} new instances of the requested model class
+     *
+     * @throws NullPointerException
+     *             if the specified class is null
+     * @throws IllegalArgumentException
+     *             if the instances could not be created, most likely, due to an illegal or inappropriate class, or if
+     *             the count is negative
+     * @since 4.1
+     */
+    public static <T extends Constructible> List<T> createObjects(Class<T> clazz, int count) {
+        return OASFactoryResolver.instance().createObjects(clazz, count);
     }
 
     /**
@@ -105,6 +177,22 @@ public final class OASFactory {
         return createObject(Components.class);
     }
 
+    /**
+     * This method creates a new {@link org.eclipse.microprofile.openapi.models.Components} instance, sized for the
+     * given number of schemas.
+     *
+     * @param expectedSize
+     *            the expected number of schemas
+     * @return a new Components instance
+     *
+     * @throws IllegalArgumentException
+     *             if the expected size is negative
+     * @since 4.1
+     */
+    public static Components createComponents(int expectedSize) {
+        return createObject(Components.class, expectedSize);
+    }
+
     /**
      * This method creates a new {@link org.eclipse.microprofile.openapi.models.ExternalDocumentation} instance.
      *
@@ -150,6 +238,22 @@ public final class OASFactory {
         return createObject(Paths.class);
     }
 
+    /**
+     * This method creates a new {@link org.eclipse.microprofile.openapi.models.Paths} instance, sized for the
+     * given number of path items.
+     *
+     * @param expectedSize
+     *            the expected number of path items
+     * @return a new Paths instance
+     *
+     * @throws IllegalArgumentException
+     *             if the expected size is negative
+     * @since 4.1
+     */
+    public static Paths createPaths(int expectedSize) {
+        return createObject(Paths.class, expectedSize);
+    }
+
     /**
      * This method creates a new {@link org.eclipse.microprofile.openapi.models.callbacks.Callback} instance.
      *
@@ -303,6 +407,22 @@ public final class OASFactory {
         return createObject(APIResponses.class);
     }
 
+    /**
+     * This method creates a new {@link org.eclipse.microprofile.openapi.models.responses.APIResponses} instance,
+     * sized for the given number of responses.
+     *
+     * @param expectedSize
+     *            the expected number of responses
+     * @return a new APIResponses instance
+     *
+     * @throws IllegalArgumentException
+     *             if the expected size is negative
+     * @since 4.1
+     */
+    public static APIResponses createAPIResponses(int expectedSize) {
+        return createObject(APIResponses.class, expectedSize);
+    }
+
     /**
      * This method creates a new {@link org.eclipse.microprofile.openapi.models.security.OAuthFlow} instance.
      *
@@ -366,4 +486,82 @@ public final class OASFactory {
         return createObject(Tag.class);
     }
 
-}
\ No newline at end of file
+    /**
+     * This method creates a writer which serializes OpenAPI models directly to a stream, without building the
+     * serialized document in memory.
+     *
+     * <br>
+     * <br>
+     * Example:
+     *
+     * <pre>
+     * <code>OASFactory.createWriter().write(openAPI, DocumentFormat.JSON, outputStream);</code>
+     * </pre>
+     *
+     * @return a writer for OpenAPI models
+     *
+     * @throws UnsupportedOperationException
+     *             if the implementation does not provide a writer
+     * @since 4.1
+     */
+    public static OpenAPIWriter createWriter() {
+        return OASFactoryResolver.instance().createWriter();
+    }
+
+    /**
+     * This method creates a reader which builds OpenAPI models directly from a stream, without parsing the document
+     * into an intermediate tree.
+     *
+     * <br>
+     * <br>
+     * Example:
+     *
+     * <pre>
+     * <code>OpenAPI openAPI = OASFactory.createDocumentReader().read(inputStream, DocumentFormat.YAML);</code>
+     * </pre>
+     *
+     * @return a reader for OpenAPI documents
+     *
+     * @throws UnsupportedOperationException
+     *             if the implementation does not provide a reader
+     * @since 4.1
+     */
+    public static StaticDocumentReader createDocumentReader() {
+        return OASFactoryResolver.instance().createDocumentReader();
+    }
+
+    /**
+     * This method creates a generator of build time snapshots of the OpenAPI document of an application.
+     *
+     * @return a snapshot generator
+     *
+     * @throws UnsupportedOperationException
+     *             if the implementation does not provide a snapshot generator
+     * @see SnapshotGenerator
+     * @since 4.1
+     */
+    public static SnapshotGenerator createSnapshotGenerator() {
+        return OASFactoryResolver.instance().createSnapshotGenerator();
+    }
+
+    /**
+     * This method creates an interner which replaces structurally equal schemas with a single canonical instance.
+     * <p>
+     * Example:
+     *
+     * <pre>
+     * <code>OASFactory.createModelInterner().intern(openAPI);</code>
+     * </pre>
+     *
+     * @return a new model interner
+     *
+     * @throws UnsupportedOperationException
+     *             if the implementation does not provide a model interner
+     * @see ModelInterner
+     * @since 4.1
+     */
+    public static ModelInterner createModelInterner() {
+        return OASFactoryResolver.instance().createModelInterner();
+    }
+
+}
@@ -15,6 +15,9 @@
  */
 package org.eclipse.microprofile.openapi;
 
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.Operation;
 import org.eclipse.microprofile.openapi.models.PathItem;
@@ -38,7 +41,9 @@ import org.eclipse.microprofile.openapi.models.tags.Tag;
  * The registration of this filter is controlled by setting the key <b>mp.openapi.filter</b> using one of the
  * configuration sources specified in <a href="https://github.com/eclipse/microprofile-config">MicroProfile Config</a>.
  * The value is the fully qualified name of the filter implementation, which needs to be visible to the application's
- * classloader.
+ * classloader. Several filters can be registered as a comma-separated list of names, in which case each element of
+ * the model tree is passed to the filters in list order, the result of one filter being passed to the next. An element
+ * removed by a filter is not passed to the filters after it.
  *
  */
 public interface OASFilter {
@@ -198,4 +203,29 @@ public interface OASFilter {
      */
     default void filterOpenAPI(OpenAPI openAPI) {
     }
+
+    /**
+     * Returns the types of the model elements this filter is interested in. The vendor framework is only required to
+     * call the filter method for an element if the element's type is in the returned set. This allows it to skip the
+     * filter methods this filter does not override and, where possible, the parts of the model tree which cannot
+     * contain an element of any of the returned types. For example, the schemas of a document need not be walked for a
+     * filter that only returns {@code Server.class}.
+     * <p>
+     * The returned set may contain any of the types {@link PathItem}, {@link Operation}, {@link Parameter},
+     * {@link Header}, {@link RequestBody}, {@link APIResponse}, {@link Schema}, {@link SecurityScheme}, {@link Server},
+     * {@link Tag}, {@link Link} and {@link Callback}. Other types are ignored. The {@link #filterOpenAPI(OpenAPI)}
+     * method is always called, whether or not {@code OpenAPI.class} is in the returned set.
+     * <p>
+     * This method is called once, before any of the filter methods. The default implementation returns all the
+     * filterable types, so that every filter method is called for every element, as for filters which do not override
+     * this method.
+     *
+     * @return the set of model element types to filter, not null
+     * @since 4.1
+     */
+    default Set<Class<? extends Constructible>> filteredTypes() {
+        return Set.of(PathItem.class, Operation.class, Parameter.class, Header.class, RequestBody.class,
+                APIResponse.class, Schema.class, SecurityScheme.class, Server.class, Tag.class, Link.class,
+                Callback.class);
+    }
 }
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * Serializes OpenAPI models directly to a stream.
+ * <p>
+ * A writer is obtained from {@link OASFactory#createWriter()}. It writes the document as it is produced, without
+ * first building the serialized document as a String or as an intermediate tree, so that the memory needed to write a
+ * document does not depend on its size. For a given document and format, the written document is structurally equal to
+ * the body served by the /openapi endpoint for that document: both parse to the same tree of maps, lists and values,
+ * but they may differ in formatting, such as indentation, quoting and the order of the fields of a map.
+ * <p>
+ * Writers are thread safe and can be reused.
+ *
+ * @since 4.1
+ */
+public interface OpenAPIWriter {
+
+    /**
+     * Writes the given OpenAPI document to the given stream, encoded in UTF-8. The stream is flushed but not closed.
+     *
+     * @param openAPI
+     *            the document to write
+     * @param format
+     *            the format of the written document
+     * @param out
+     *            the stream to write to
+     * @throws IOException
+     *             if writing to the stream fails
+     * @throws NullPointerException
+     *             if any of the arguments is null
+     */
+    void write(OpenAPI openAPI, DocumentFormat format, OutputStream out) throws IOException;
+
+    /**
+     * Writes the given OpenAPI document to the given channel, encoded in UTF-8. The channel is not closed.
+     * <p>
+     * The default implementation writes to a stream wrapping the channel.
+     *
+     * @param openAPI
+     *            the document to write
+     * @param format
+     *            the format of the written document
+     * @param channel
+     *            the channel to write to
+     * @throws IOException
+     *             if writing to the channel fails
+     * @throws NullPointerException
+     *             if any of the arguments is null
+     */
+    default void write(OpenAPI openAPI, DocumentFormat format, WritableByteChannel channel) throws IOException {
+        write(openAPI, format, Channels.newOutputStream(channel));
+    }
+}
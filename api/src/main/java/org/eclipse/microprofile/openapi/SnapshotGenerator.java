@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * Runs the processing of the OpenAPI document of an application at build time and stores the result as a snapshot,
+ * which the runtime loads instead of processing the document again when the application starts.
+ * <p>
+ * A generator is obtained from {@link OASFactory#createSnapshotGenerator()}. The content of the snapshot is specific
+ * to the implementation, it is stored below {@link #SNAPSHOT_LOCATION} in the output directory, which is typically
+ * the directory of the compiled classes of the application. Whether the runtime uses the snapshot is controlled by
+ * the <b>mp.openapi.snapshot</b> configuration property.
+ * <p>
+ * For use from build tools, the {@link SnapshotGeneratorLauncher} generates the snapshot of the application on the
+ * class path.
+ *
+ * @see OASConfig#SNAPSHOT
+ * @see SnapshotGeneratorLauncher
+ * @since 4.1
+ */
+public interface SnapshotGenerator {
+
+    /**
+     * The location of the snapshot, relative to the root of the application module.
+     */
+    String SNAPSHOT_LOCATION = "META-INF/microprofile-openapi-snapshot";
+
+    /**
+     * Processes the OpenAPI document of the application whose classes, resources and configuration are visible to the
+     * given class loader, following the processing rules of the specification.
+     *
+     * @param applicationClassLoader
+     *            the class loader of the application
+     * @return the processed document, which is the same as the document the runtime would serve for the application
+     *         without a snapshot
+     * @throws IOException
+     *             if the resources of the application cannot be read
+     * @throws NullPointerException
+     *             if the class loader is null
+     */
+    OpenAPI process(ClassLoader applicationClassLoader) throws IOException;
+
+    /**
+     * Processes the OpenAPI document of the application as described for {@link #process(ClassLoader)} and writes the
+     * snapshot below {@link #SNAPSHOT_LOCATION} in the given output directory, replacing any existing snapshot.
+     *
+     * @param applicationClassLoader
+     *            the class loader of the application
+     * @param outputDirectory
+     *            the directory in which to create the snapshot
+     * @throws IOException
+     *             if the resources of the application cannot be read or the snapshot cannot be written
+     * @throws NullPointerException
+     *             if any of the arguments is null
+     */
+    void generate(ClassLoader applicationClassLoader, Path outputDirectory) throws IOException;
+}
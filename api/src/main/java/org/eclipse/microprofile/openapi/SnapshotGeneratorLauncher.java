@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Generates the build time snapshot of the OpenAPI document of the application on the class path, for use from build
+ * tools. For example, with the Maven exec plugin:
+ *
+ * <pre>
+ * mvn exec:java -Dexec.mainClass=org.eclipse.microprofile.openapi.SnapshotGeneratorLauncher -Dexec.args=target/classes
+ * </pre>
+ *
+ * @see SnapshotGenerator
+ * @since 4.1
+ */
+public final class SnapshotGeneratorLauncher {
+
+    private SnapshotGeneratorLauncher() {
+    }
+
+    /**
+     * Generates the snapshot of the application on the class path with the {@link SnapshotGenerator} returned by
+     * {@link OASFactory#createSnapshotGenerator()}, using the context class loader of the current thread as the
+     * application class loader.
+     *
+     * @param args
+     *            a single argument, the output directory
+     * @throws IOException
+     *             if the snapshot cannot be generated
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: SnapshotGeneratorLauncher <output directory>");
+        }
+        OASFactory.createSnapshotGenerator().generate(Thread.currentThread().getContextClassLoader(),
+                Paths.get(args[0]));
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * Reads OpenAPI documents, such as the static files of an application, into OpenAPI models.
+ * <p>
+ * A reader is obtained from {@link OASFactory#createDocumentReader()}. It builds the model objects directly from the
+ * stream of tokens of the document, such as YAML events or JSON parser events, without first parsing the whole
+ * document into a generic tree of maps and lists, so that the memory needed to read a document is not much more than
+ * the memory needed by the resulting model.
+ * <p>
+ * The returned model is mutable and is created as if by the {@link OASFactory}. All properties of the document are
+ * read, including extensions, the {@code $ref} properties of references and the custom properties of schemas.
+ * References are not resolved.
+ * <p>
+ * Readers are thread safe and can be reused.
+ *
+ * @since 4.1
+ */
+public interface StaticDocumentReader {
+
+    /**
+     * Reads an OpenAPI document from the given stream. The stream is read until the end of the document and is not
+     * closed. JSON documents must be encoded in UTF-8. YAML documents may use any of the encodings allowed by YAML.
+     *
+     * @param in
+     *            the stream to read from
+     * @param format
+     *            the format of the document
+     * @return the model of the document
+     * @throws IOException
+     *             if reading from the stream fails or the stream does not contain a well-formed document in the given
+     *             format
+     * @throws NullPointerException
+     *             if any of the arguments is null
+     */
+    OpenAPI read(InputStream in, DocumentFormat format) throws IOException;
+
+    /**
+     * Reads an OpenAPI document from the given channel. The channel is not closed.
+     * <p>
+     * The default implementation reads from a stream wrapping the channel.
+     *
+     * @param channel
+     *            the channel to read from
+     * @param format
+     *            the format of the document
+     * @return the model of the document
+     * @throws IOException
+     *             if reading from the channel fails or the channel does not contain a well-formed document in the
+     *             given format
+     * @throws NullPointerException
+     *             if any of the arguments is null
+     */
+    default OpenAPI read(ReadableByteChannel channel, DocumentFormat format) throws IOException {
+        return read(Channels.newInputStream(channel), format);
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * Marker interface for an {@link OASFilter} whose filter methods may be called concurrently from multiple threads.
+ * <p>
+ * By implementing this interface, the filter declares that its filter methods do not depend on being called from a
+ * single thread or in a particular order, other than the order required by the specification: the descendants of an
+ * element are filtered before the element itself, and {@link OASFilter#filterOpenAPI(OpenAPI) filterOpenAPI} is called
+ * last. Any state shared between calls must be safe for concurrent access.
+ * <p>
+ * If the configuration property <b>mp.openapi.filter.parallel</b> is set to {@code true} as well, the vendor framework
+ * may filter independent parts of the model tree, such as sibling path items or the schemas of the components, in
+ * parallel. The resulting document must be the same as if the filter had been called from a single thread, including
+ * the order of the entries of every map and list. The filter methods are called with the class loader of the
+ * application as the thread context class loader on every thread, so that they can use the {@link OASFactory} and the
+ * classes of the application. If either this interface is not implemented or the property is not set, the filter is
+ * called from a single thread. When several filters are registered, they are only called in parallel if all of them
+ * implement this interface.
+ *
+ * @see OASConfig#FILTER_PARALLEL
+ * @since 4.1
+ */
+public interface ThreadSafeOASFilter extends OASFilter {
+
+}
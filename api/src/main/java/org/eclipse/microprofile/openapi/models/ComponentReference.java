@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.eclipse.microprofile.openapi.models;
+
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.examples.Example;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.links.Link;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+
+/**
+ * Parses references to the components of a document, of the form {@code #/components/<type>/<name>}, for the default
+ * implementations of {@link Components#resolve(String)} and {@link Components#resolve(Reference)}.
+ */
+final class ComponentReference {
+
+    static final String PREFIX = "#/components/";
+
+    private final String type;
+    private final String name;
+
+    private ComponentReference(String type, String name) {
+        this.type = type;
+        this.name = name;
+    }
+
+    /**
+     * Parses a reference, decoding the JSON pointer escape sequences {@code ~1} and {@code ~0} of the name.
+     *
+     * @return the parsed reference, or {@code null} if the reference is not of the form
+     *         {@code #/components/<type>/<name>}
+     */
+    static ComponentReference parse(String ref) {
+        if (ref == null || !ref.startsWith(PREFIX)) {
+            return null;
+        }
+        int separator = ref.indexOf('/', PREFIX.length());
+        if (separator < 0 || separator == ref.length() - 1 || ref.indexOf('/', separator + 1) >= 0) {
+            return null;
+        }
+        String name = ref.substring(separator + 1);
+        if (name.indexOf('~') >= 0) {
+            name = name.replace("~1", "/").replace("~0", "~");
+        }
+        return new ComponentReference(ref.substring(PREFIX.length(), separator), name);
+    }
+
+    String getType() {
+        return type;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * @return the model interface of the components of this type, or {@code null} if the type is unknown
+     */
+    Class<?> getModelType() {
+        switch (type) {
+            case "schemas":
+                return Schema.class;
+            case "responses":
+                return APIResponse.class;
+            case "parameters":
+                return Parameter.class;
+            case "examples":
+                return Example.class;
+            case "requestBodies":
+                return RequestBody.class;
+            case "headers":
+                return Header.class;
+            case "securitySchemes":
+                return SecurityScheme.class;
+            case "links":
+                return Link.class;
+            case "callbacks":
+                return Callback.class;
+            case "pathItems":
+                return PathItem.class;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return the component this reference refers to, or {@code null} if it does not exist
+     */
+    Object lookup(Components components) {
+        Map<String, ?> map;
+        switch (type) {
+            case "schemas":
+                map = components.getSchemas();
+                break;
+            case "responses":
+                map = components.getResponses();
+                break;
+            case "parameters":
+                map = components.getParameters();
+                break;
+            case "examples":
+                map = components.getExamples();
+                break;
+            case "requestBodies":
+                map = components.getRequestBodies();
+                break;
+            case "headers":
+                map = components.getHeaders();
+                break;
+            case "securitySchemes":
+                map = components.getSecuritySchemes();
+                break;
+            case "links":
+                map = components.getLinks();
+                break;
+            case "callbacks":
+                map = components.getCallbacks();
+                break;
+            case "pathItems":
+                map = components.getPathItems();
+                break;
+            default:
+                map = null;
+        }
+        return map == null ? null : map.get(name);
+    }
+}
@@ -535,4 +535,56 @@ public interface Components extends Constructible, Extensible<Components> {
      */
     void removePathItem(String name);
 
+    /**
+     * Returns the component a reference refers to.
+     * <p>
+     * The reference must be a full reference to a component of this Components instance, of the form
+     * {@code #/components/<type>/<name>}, for example {@code #/components/schemas/Pet}. The JSON pointer escape
+     * sequences {@code ~1} and {@code ~0} of the name are decoded to {@code /} and {@code ~}. Only the reference itself
+     * is resolved: if the component is a reference too, it is returned as it is.
+     * <p>
+     * The default implementation looks up the name in the map returned by the getter method of the type of component.
+     * Implementations are encouraged to override it with a lookup in constant time, for example in an index which is
+     * maintained by the set, add and remove methods of this Components instance.
+     *
+     * @param ref
+     *            a reference to a component, such as the value returned by {@link Reference#getRef()}
+     * @return the component the reference refers to, or {@code null} if the reference is {@code null}, is not of the
+     *         form {@code #/components/<type>/<name>}, or refers to a component which does not exist
+     * @since 4.1
+     */
+    default Object resolve(String ref) {
+        ComponentReference reference = ComponentReference.parse(ref);
+        return reference == null ? null : reference.lookup(this);
+    }
+
+    /**
+     * Returns the component a Reference object refers to.
+     * <p>
+     * This method resolves the ref property of the given object with {@link #resolve(String)}, and only returns the
+     * component if it is of the same type as the given object. For example a {@link Schema} with the ref property
+     * {@code #/components/schemas/Pet} resolves to the schema named {@code Pet}, but a Schema with the ref property
+     * {@code #/components/responses/NotFound} does not resolve.
+     *
+     * @param <T>
+     *            the type of the Reference object
+     * @param reference
+     *            the Reference object to resolve
+     * @return the component the Reference object refers to, or {@code null} if the reference is {@code null}, its ref
+     *         property is not set or does not refer to an existing component of the same type
+     * @since 4.1
+     */
+    @SuppressWarnings("unchecked")
+    default <T extends Reference<T>> T resolve(T reference) {
+        if (reference == null) {
+            return null;
+        }
+        ComponentReference ref = ComponentReference.parse(reference.getRef());
+        if (ref == null || ref.getModelType() == null || !ref.getModelType().isInstance(reference)) {
+            return null;
+        }
+        Object component = resolve(reference.getRef());
+        return ref.getModelType().isInstance(component) ? (T) component : null;
+    }
+
 }
\ No newline at end of file
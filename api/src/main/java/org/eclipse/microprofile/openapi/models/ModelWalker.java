@@ -0,0 +1,597 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.models;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.examples.Example;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.info.Contact;
+import org.eclipse.microprofile.openapi.models.info.Info;
+import org.eclipse.microprofile.openapi.models.info.License;
+import org.eclipse.microprofile.openapi.models.links.Link;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.Discriminator;
+import org.eclipse.microprofile.openapi.models.media.Encoding;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.XML;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.responses.APIResponses;
+import org.eclipse.microprofile.openapi.models.security.OAuthFlow;
+import org.eclipse.microprofile.openapi.models.security.OAuthFlows;
+import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.eclipse.microprofile.openapi.models.servers.ServerVariable;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+
+/**
+ * The reference implementation of {@link OpenAPI#walk(OpenAPIVisitor)}, which walks the model using only the methods
+ * of the model interfaces.
+ */
+final class ModelWalker {
+
+    private final OpenAPIVisitor visitor;
+
+    // The schemas being walked, from the outermost to the current one, to stop at cycles
+    private final Set<Schema> schemaPath = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    ModelWalker(OpenAPIVisitor visitor) {
+        this.visitor = Objects.requireNonNull(visitor, "visitor");
+    }
+
+    void walk(OpenAPI openAPI) {
+        Node location = new Node(null, "");
+        if (visitor.enterOpenAPI(openAPI, location)) {
+            info(openAPI.getInfo(), location.child("info"));
+            externalDocs(openAPI.getExternalDocs(), location.child("externalDocs"));
+            servers(openAPI.getServers(), location);
+            security(openAPI.getSecurity(), location);
+            List<Tag> tags = openAPI.getTags();
+            if (tags != null) {
+                Node tagsLocation = location.child("tags");
+                for (int i = 0; i < tags.size(); i++) {
+                    tag(tags.get(i), tagsLocation.child(i));
+                }
+            }
+            paths(openAPI.getPaths(), location.child("paths"));
+            Map<String, PathItem> webhooks = openAPI.getWebhooks();
+            if (webhooks != null) {
+                Node webhooksLocation = location.child("webhooks");
+                for (Map.Entry<String, PathItem> entry : webhooks.entrySet()) {
+                    pathItem(entry.getValue(), webhooksLocation.child(entry.getKey()));
+                }
+            }
+            components(openAPI.getComponents(), location.child("components"));
+        }
+        visitor.leaveOpenAPI(openAPI, location);
+    }
+
+    private void info(Info info, Node location) {
+        if (info == null) {
+            return;
+        }
+        if (visitor.enterInfo(info, location)) {
+            Contact contact = info.getContact();
+            if (contact != null) {
+                Node contactLocation = location.child("contact");
+                visitor.enterContact(contact, contactLocation);
+                visitor.leaveContact(contact, contactLocation);
+            }
+            License license = info.getLicense();
+            if (license != null) {
+                Node licenseLocation = location.child("license");
+                visitor.enterLicense(license, licenseLocation);
+                visitor.leaveLicense(license, licenseLocation);
+            }
+        }
+        visitor.leaveInfo(info, location);
+    }
+
+    private void externalDocs(ExternalDocumentation externalDocs, Node location) {
+        if (externalDocs != null) {
+            visitor.enterExternalDocumentation(externalDocs, location);
+            visitor.leaveExternalDocumentation(externalDocs, location);
+        }
+    }
+
+    private void servers(List<Server> servers, Node parent) {
+        if (servers == null) {
+            return;
+        }
+        Node serversLocation = parent.child("servers");
+        for (int i = 0; i < servers.size(); i++) {
+            server(servers.get(i), serversLocation.child(i));
+        }
+    }
+
+    private void server(Server server, Node location) {
+        if (server == null) {
+            return;
+        }
+        if (visitor.enterServer(server, location)) {
+            Map<String, ServerVariable> variables = server.getVariables();
+            if (variables != null) {
+                Node variablesLocation = location.child("variables");
+                for (Map.Entry<String, ServerVariable> entry : variables.entrySet()) {
+                    ServerVariable variable = entry.getValue();
+                    if (variable != null) {
+                        Node variableLocation = variablesLocation.child(entry.getKey());
+                        visitor.enterServerVariable(variable, variableLocation);
+                        visitor.leaveServerVariable(variable, variableLocation);
+                    }
+                }
+            }
+        }
+        visitor.leaveServer(server, location);
+    }
+
+    private void security(List<SecurityRequirement> security, Node parent) {
+        if (security == null) {
+            return;
+        }
+        Node securityLocation = parent.child("security");
+        for (int i = 0; i < security.size(); i++) {
+            SecurityRequirement requirement = security.get(i);
+            if (requirement != null) {
+                Node requirementLocation = securityLocation.child(i);
+                visitor.enterSecurityRequirement(requirement, requirementLocation);
+                visitor.leaveSecurityRequirement(requirement, requirementLocation);
+            }
+        }
+    }
+
+    private void tag(Tag tag, Node location) {
+        if (tag == null) {
+            return;
+        }
+        if (visitor.enterTag(tag, location)) {
+            externalDocs(tag.getExternalDocs(), location.child("externalDocs"));
+        }
+        visitor.leaveTag(tag, location);
+    }
+
+    private void paths(Paths paths, Node location) {
+        if (paths == null) {
+            return;
+        }
+        if (visitor.enterPaths(paths, location)) {
+            Map<String, PathItem> pathItems = paths.getPathItems();
+            if (pathItems != null) {
+                for (Map.Entry<String, PathItem> entry : pathItems.entrySet()) {
+                    pathItem(entry.getValue(), location.child(entry.getKey()));
+                }
+            }
+        }
+        visitor.leavePaths(paths, location);
+    }
+
+    private void pathItem(PathItem pathItem, Node location) {
+        if (pathItem == null) {
+            return;
+        }
+        if (visitor.enterPathItem(pathItem, location)) {
+            Map<PathItem.HttpMethod, Operation> operations = pathItem.getOperations();
+            if (operations != null) {
+                for (Map.Entry<PathItem.HttpMethod, Operation> entry : operations.entrySet()) {
+                    operation(entry.getValue(), location.child(entry.getKey().name().toLowerCase(Locale.ROOT)));
+                }
+            }
+            servers(pathItem.getServers(), location);
+            parameters(pathItem.getParameters(), location);
+        }
+        visitor.leavePathItem(pathItem, location);
+    }
+
+    private void operation(Operation operation, Node location) {
+        if (operation == null) {
+            return;
+        }
+        if (visitor.enterOperation(operation, location)) {
+            externalDocs(operation.getExternalDocs(), location.child("externalDocs"));
+            parameters(operation.getParameters(), location);
+            requestBody(operation.getRequestBody(), location.child("requestBody"));
+            responses(operation.getResponses(), location.child("responses"));
+            callbacks(operation.getCallbacks(), location);
+            security(operation.getSecurity(), location);
+            servers(operation.getServers(), location);
+        }
+        visitor.leaveOperation(operation, location);
+    }
+
+    private void parameters(List<Parameter> parameters, Node parent) {
+        if (parameters == null) {
+            return;
+        }
+        Node parametersLocation = parent.child("parameters");
+        for (int i = 0; i < parameters.size(); i++) {
+            parameter(parameters.get(i), parametersLocation.child(i));
+        }
+    }
+
+    private void parameter(Parameter parameter, Node location) {
+        if (parameter == null) {
+            return;
+        }
+        if (visitor.enterParameter(parameter, location)) {
+            schema(parameter.getSchema(), location.child("schema"));
+            examples(parameter.getExamples(), location);
+            content(parameter.getContent(), location.child("content"));
+        }
+        visitor.leaveParameter(parameter, location);
+    }
+
+    private void requestBody(RequestBody requestBody, Node location) {
+        if (requestBody == null) {
+            return;
+        }
+        if (visitor.enterRequestBody(requestBody, location)) {
+            content(requestBody.getContent(), location.child("content"));
+        }
+        visitor.leaveRequestBody(requestBody, location);
+    }
+
+    private void responses(APIResponses responses, Node location) {
+        if (responses == null) {
+            return;
+        }
+        if (visitor.enterAPIResponses(responses, location)) {
+            Map<String, APIResponse> responseMap = responses.getAPIResponses();
+            if (responseMap != null) {
+                for (Map.Entry<String, APIResponse> entry : responseMap.entrySet()) {
+                    response(entry.getValue(), location.child(entry.getKey()));
+                }
+            }
+        }
+        visitor.leaveAPIResponses(responses, location);
+    }
+
+    private void response(APIResponse response, Node location) {
+        if (response == null) {
+            return;
+        }
+        if (visitor.enterAPIResponse(response, location)) {
+            headers(response.getHeaders(), location);
+            content(response.getContent(), location.child("content"));
+            links(response.getLinks(), location);
+        }
+        visitor.leaveAPIResponse(response, location);
+    }
+
+    private void headers(Map<String, Header> headers, Node parent) {
+        if (headers == null) {
+            return;
+        }
+        Node headersLocation = parent.child("headers");
+        for (Map.Entry<String, Header> entry : headers.entrySet()) {
+            header(entry.getValue(), headersLocation.child(entry.getKey()));
+        }
+    }
+
+    private void header(Header header, Node location) {
+        if (header == null) {
+            return;
+        }
+        if (visitor.enterHeader(header, location)) {
+            schema(header.getSchema(), location.child("schema"));
+            examples(header.getExamples(), location);
+            content(header.getContent(), location.child("content"));
+        }
+        visitor.leaveHeader(header, location);
+    }
+
+    private void content(Content content, Node location) {
+        if (content == null) {
+            return;
+        }
+        if (visitor.enterContent(content, location)) {
+            Map<String, MediaType> mediaTypes = content.getMediaTypes();
+            if (mediaTypes != null) {
+                for (Map.Entry<String, MediaType> entry : mediaTypes.entrySet()) {
+                    mediaType(entry.getValue(), location.child(entry.getKey()));
+                }
+            }
+        }
+        visitor.leaveContent(content, location);
+    }
+
+    private void mediaType(MediaType mediaType, Node location) {
+        if (mediaType == null) {
+            return;
+        }
+        if (visitor.enterMediaType(mediaType, location)) {
+            schema(mediaType.getSchema(), location.child("schema"));
+            examples(mediaType.getExamples(), location);
+            Map<String, Encoding> encodings = mediaType.getEncoding();
+            if (encodings != null) {
+                Node encodingsLocation = location.child("encoding");
+                for (Map.Entry<String, Encoding> entry : encodings.entrySet()) {
+                    encoding(entry.getValue(), encodingsLocation.child(entry.getKey()));
+                }
+            }
+        }
+        visitor.leaveMediaType(mediaType, location);
+    }
+
+    private void encoding(Encoding encoding, Node location) {
+        if (encoding == null) {
+            return;
+        }
+        if (visitor.enterEncoding(encoding, location)) {
+            headers(encoding.getHeaders(), location);
+        }
+        visitor.leaveEncoding(encoding, location);
+    }
+
+    private void examples(Map<String, Example> examples, Node parent) {
+        if (examples == null) {
+            return;
+        }
+        Node examplesLocation = parent.child("examples");
+        for (Map.Entry<String, Example> entry : examples.entrySet()) {
+            Example example = entry.getValue();
+            if (example != null) {
+                Node exampleLocation = examplesLocation.child(entry.getKey());
+                visitor.enterExample(example, exampleLocation);
+                visitor.leaveExample(example, exampleLocation);
+            }
+        }
+    }
+
+    private void links(Map<String, Link> links, Node parent) {
+        if (links == null) {
+            return;
+        }
+        Node linksLocation = parent.child("links");
+        for (Map.Entry<String, Link> entry : links.entrySet()) {
+            link(entry.getValue(), linksLocation.child(entry.getKey()));
+        }
+    }
+
+    private void link(Link link, Node location) {
+        if (link == null) {
+            return;
+        }
+        if (visitor.enterLink(link, location)) {
+            server(link.getServer(), location.child("server"));
+        }
+        visitor.leaveLink(link, location);
+    }
+
+    private void callbacks(Map<String, Callback> callbacks, Node parent) {
+        if (callbacks == null) {
+            return;
+        }
+        Node callbacksLocation = parent.child("callbacks");
+        for (Map.Entry<String, Callback> entry : callbacks.entrySet()) {
+            callback(entry.getValue(), callbacksLocation.child(entry.getKey()));
+        }
+    }
+
+    private void callback(Callback callback, Node location) {
+        if (callback == null) {
+            return;
+        }
+        if (visitor.enterCallback(callback, location)) {
+            Map<String, PathItem> pathItems = callback.getPathItems();
+            if (pathItems != null) {
+                for (Map.Entry<String, PathItem> entry : pathItems.entrySet()) {
+                    pathItem(entry.getValue(), location.child(entry.getKey()));
+                }
+            }
+        }
+        visitor.leaveCallback(callback, location);
+    }
+
+    private void schema(Schema schema, Node location) {
+        if (schema == null || !schemaPath.add(schema)) {
+            return;
+        }
+        try {
+            if (visitor.enterSchema(schema, location)) {
+                Map<String, ?> properties = schema.getAll();
+                if (properties != null) {
+                    for (Map.Entry<String, ?> entry : properties.entrySet()) {
+                        schemaProperty(entry.getValue(), location.child(entry.getKey()));
+                    }
+                }
+            }
+            visitor.leaveSchema(schema, location);
+        } finally {
+            schemaPath.remove(schema);
+        }
+    }
+
+    // Schema properties are walked generically so that custom properties holding schemas are included
+    private void schemaProperty(Object value, Node location) {
+        if (value instanceof Schema) {
+            schema((Schema) value, location);
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            for (int i = 0; i < list.size(); i++) {
+                Object element = list.get(i);
+                if (element instanceof Schema) {
+                    schema((Schema) element, location.child(i));
+                }
+            }
+        } else if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (entry.getKey() instanceof String && entry.getValue() instanceof Schema) {
+                    schema((Schema) entry.getValue(), location.child((String) entry.getKey()));
+                }
+            }
+        } else if (value instanceof Discriminator) {
+            Discriminator discriminator = (Discriminator) value;
+            visitor.enterDiscriminator(discriminator, location);
+            visitor.leaveDiscriminator(discriminator, location);
+        } else if (value instanceof XML) {
+            XML xml = (XML) value;
+            visitor.enterXML(xml, location);
+            visitor.leaveXML(xml, location);
+        } else if (value instanceof ExternalDocumentation) {
+            externalDocs((ExternalDocumentation) value, location);
+        }
+    }
+
+    private void components(Components components, Node location) {
+        if (components == null) {
+            return;
+        }
+        if (visitor.enterComponents(components, location)) {
+            Map<String, Schema> schemas = components.getSchemas();
+            if (schemas != null) {
+                Node schemasLocation = location.child("schemas");
+                for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+                    schema(entry.getValue(), schemasLocation.child(entry.getKey()));
+                }
+            }
+            Map<String, APIResponse> responses = components.getResponses();
+            if (responses != null) {
+                Node responsesLocation = location.child("responses");
+                for (Map.Entry<String, APIResponse> entry : responses.entrySet()) {
+                    response(entry.getValue(), responsesLocation.child(entry.getKey()));
+                }
+            }
+            Map<String, Parameter> parameters = components.getParameters();
+            if (parameters != null) {
+                Node parametersLocation = location.child("parameters");
+                for (Map.Entry<String, Parameter> entry : parameters.entrySet()) {
+                    parameter(entry.getValue(), parametersLocation.child(entry.getKey()));
+                }
+            }
+            examples(components.getExamples(), location);
+            Map<String, RequestBody> requestBodies = components.getRequestBodies();
+            if (requestBodies != null) {
+                Node requestBodiesLocation = location.child("requestBodies");
+                for (Map.Entry<String, RequestBody> entry : requestBodies.entrySet()) {
+                    requestBody(entry.getValue(), requestBodiesLocation.child(entry.getKey()));
+                }
+            }
+            headers(components.getHeaders(), location);
+            Map<String, SecurityScheme> securitySchemes = components.getSecuritySchemes();
+            if (securitySchemes != null) {
+                Node securitySchemesLocation = location.child("securitySchemes");
+                for (Map.Entry<String, SecurityScheme> entry : securitySchemes.entrySet()) {
+                    securityScheme(entry.getValue(), securitySchemesLocation.child(entry.getKey()));
+                }
+            }
+            links(components.getLinks(), location);
+            callbacks(components.getCallbacks(), location);
+            Map<String, PathItem> pathItems = components.getPathItems();
+            if (pathItems != null) {
+                Node pathItemsLocation = location.child("pathItems");
+                for (Map.Entry<String, PathItem> entry : pathItems.entrySet()) {
+                    pathItem(entry.getValue(), pathItemsLocation.child(entry.getKey()));
+                }
+            }
+        }
+        visitor.leaveComponents(components, location);
+    }
+
+    private void securityScheme(SecurityScheme securityScheme, Node location) {
+        if (securityScheme == null) {
+            return;
+        }
+        if (visitor.enterSecurityScheme(securityScheme, location)) {
+            OAuthFlows flows = securityScheme.getFlows();
+            if (flows != null) {
+                Node flowsLocation = location.child("flows");
+                if (visitor.enterOAuthFlows(flows, flowsLocation)) {
+                    flow(flows.getImplicit(), flowsLocation.child("implicit"));
+                    flow(flows.getPassword(), flowsLocation.child("password"));
+                    flow(flows.getClientCredentials(), flowsLocation.child("clientCredentials"));
+                    flow(flows.getAuthorizationCode(), flowsLocation.child("authorizationCode"));
+                }
+                visitor.leaveOAuthFlows(flows, flowsLocation);
+            }
+        }
+        visitor.leaveSecurityScheme(securityScheme, location);
+    }
+
+    private void flow(OAuthFlow flow, Node location) {
+        if (flow != null) {
+            visitor.enterOAuthFlow(flow, location);
+            visitor.leaveOAuthFlow(flow, location);
+        }
+    }
+
+    private static final class Node implements OpenAPIVisitor.Location {
+
+        private final Node parent;
+        private final String name;
+        private final int depth;
+        private String pointer;
+
+        Node(Node parent, String name) {
+            this.parent = parent;
+            this.name = name;
+            this.depth = parent == null ? 0 : parent.depth + 1;
+        }
+
+        Node child(String name) {
+            return new Node(this, name);
+        }
+
+        Node child(int index) {
+            return new Node(this, Integer.toString(index));
+        }
+
+        @Override
+        public OpenAPIVisitor.Location getParent() {
+            return parent;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public int getDepth() {
+            return depth;
+        }
+
+        @Override
+        public String getPointer() {
+            String result = pointer;
+            if (result == null) {
+                if (parent == null) {
+                    result = "#";
+                } else {
+                    result = parent.getPointer() + '/' + name.replace("~", "~0").replace("/", "~1");
+                }
+                pointer = result;
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return getPointer();
+        }
+    }
+}
@@ -17,8 +17,10 @@
 
 package org.eclipse.microprofile.openapi.models;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.eclipse.microprofile.openapi.models.info.Info;
 import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
@@ -384,4 +386,106 @@ public interface OpenAPI extends Constructible, Extensible<OpenAPI> {
         return this;
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns a deeply immutable snapshot of this OpenAPI document.
+     * <p>
+     * The snapshot and every model object reachable from it are immutable: their setter, builder, add and remove
+     * methods throw an {@link UnsupportedOperationException} and the maps and lists returned by their getter methods
+     * are unmodifiable. Later changes to this OpenAPI instance or to the model objects reachable from it are not
+     * reflected in the snapshot. Values which are not model objects, such as extension values or schema examples, are
+     * shared with this instance rather than copied.
+     * <p>
+     * A snapshot can be read concurrently by multiple threads without synchronization. Implementations are encouraged
+     * to store snapshots compactly, for example by sizing storage exactly and sharing empty maps and lists.
+     * <p>
+     * A typical use is to freeze the model once the {@link org.eclipse.microprofile.openapi.OASFilter} has been applied
+     * and serve the snapshot from then on. Calling this method on a snapshot returns the snapshot itself.
+     *
+     * @return an immutable snapshot of this OpenAPI document
+     * @since 4.1
+     */
+    OpenAPI freeze();
+
+    /**
+     * Returns a deep copy of this OpenAPI document.
+     * <p>
+     * The copy contains a copy of every model object reachable from this instance, including the properties returned
+     * by {@link org.eclipse.microprofile.openapi.models.media.Schema#getAll()}, the extensions of every
+     * {@link Extensible} object and the ref property of every {@link Reference} object. References are copied as they
+     * are, they are not resolved. Maps and lists are copied. Values which are not model objects, maps or lists, such as
+     * extension values or schema examples, are shared with this instance.
+     * <p>
+     * The copy and this instance are independent: changes made to either of them, or to the model objects reachable
+     * from either of them, are not visible in the other. Implementations may share unchanged subtrees between the two
+     * and only copy a subtree when it is first modified, as long as this independence is preserved.
+     * <p>
+     * The copy is always mutable, so copying a snapshot returned by {@link #freeze()} is a convenient way to derive
+     * variants of a document, for example to filter it differently for each tenant.
+     *
+     * @return a mutable deep copy of this OpenAPI document
+     * @since 4.1
+     */
+    OpenAPI copy();
+
+    /**
+     * Returns whether this OpenAPI instance is an immutable snapshot returned by {@link #freeze()}.
+     *
+     * @return {@code true} if this OpenAPI instance is immutable, otherwise {@code false}
+     * @since 4.1
+     */
+    boolean isFrozen();
+
+    /**
+     * Walks this OpenAPI document depth-first, calling the given visitor for each model object reachable from it,
+     * starting with this instance itself.
+     * <p>
+     * The default implementation uses only the getter methods of the model interfaces. Implementations are encouraged
+     * to override it with a traversal that avoids creating intermediate objects, as long as the visitor is called in
+     * the way described by {@link OpenAPIVisitor}.
+     *
+     * @param visitor
+     *            the visitor to call for each model object, not null
+     * @since 4.1
+     */
+    default void walk(OpenAPIVisitor visitor) {
+        new ModelWalker(visitor).walk(this);
+    }
+
+    /**
+     * Returns the Reference objects of this OpenAPI document which refer to the given reference.
+     * <p>
+     * A Reference object is returned if its ref property is equal to the given reference, for example
+     * {@code #/components/schemas/Pet}. The objects are returned in the order in which
+     * {@link #walk(OpenAPIVisitor)} reaches them, including the objects reachable from the components of this
+     * document, and an object is returned once for each place it is reached from. References which are not the ref
+     * property of a Reference object, such as the mapping of a
+     * {@link org.eclipse.microprofile.openapi.models.media.Discriminator}, are not included.
+     * <p>
+     * A typical use is to find out whether a component is still used before removing it, or to update the references
+     * to a component when renaming it.
+     * <p>
+     * The default implementation walks the whole document on each call. Implementations are encouraged to override it
+     * with a lookup in a reverse index of the references, maintained as the model is changed, so that finding the
+     * references to each component of a document does not take time proportional to the size of the document.
+     *
+     * @param ref
+     *            the full reference, such as the value returned by {@link Reference#getRef()}, not null
+     * @return a list, possibly empty, of the Reference objects which refer to the given reference
+     * @since 4.1
+     */
+    default List<Reference<?>> findReferencesTo(String ref) {
+        Objects.requireNonNull(ref, "ref");
+        List<Reference<?>> references = new ArrayList<>();
+        walk(new OpenAPIVisitor() {
+            @Override
+            public boolean enter(Constructible object, Location location) {
+                if (object instanceof Reference && ref.equals(((Reference<?>) object).getRef())) {
+                    references.add((Reference<?>) object);
+                }
+                return true;
+            }
+        });
+        return references;
+    }
+
+}
@@ -0,0 +1,889 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.models;
+
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.examples.Example;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.info.Contact;
+import org.eclipse.microprofile.openapi.models.info.Info;
+import org.eclipse.microprofile.openapi.models.info.License;
+import org.eclipse.microprofile.openapi.models.links.Link;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.Discriminator;
+import org.eclipse.microprofile.openapi.models.media.Encoding;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.XML;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.responses.APIResponses;
+import org.eclipse.microprofile.openapi.models.security.OAuthFlow;
+import org.eclipse.microprofile.openapi.models.security.OAuthFlows;
+import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.eclipse.microprofile.openapi.models.servers.ServerVariable;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+
+/**
+ * A visitor of the model objects of an OpenAPI document, used with {@link OpenAPI#walk(OpenAPIVisitor)}.
+ * <p>
+ * The walk is depth-first. For each model object that is reached, the enter method for its type is called first. If
+ * it returns {@code true} the children of the object are walked, otherwise they are skipped. The leave method for its
+ * type is called last, whether or not the children were skipped. So every object is entered before, and left after,
+ * all of its descendants. Objects reached through a {@link Reference} are not resolved, a reference is visited like any
+ * other model object.
+ * <p>
+ * An object which is reachable from several places, such as a schema shared by several properties after interning, is
+ * visited once for each place, with the location of that place. A schema which is reached again from within its own
+ * descendants, because the schema objects form a cycle, is not visited again at the inner place, so that a walk always
+ * terminates. Model objects other than schemas must not form cycles.
+ * <p>
+ * Each callback receives the {@link Location} of the object in the document. The order in which the children of an
+ * object are walked is not specified, except that entries of a list are walked in list order and entries of a map in
+ * the iteration order of the map.
+ * <p>
+ * All the type specific methods delegate to {@link #enter(Constructible, Location)} and
+ * {@link #leave(Constructible, Location)} by default, so a visitor interested in every object can override just those
+ * two methods, and a visitor interested in a few types can override just the methods for those types.
+ * <p>
+ * The model must not be structurally modified during a walk, except that an object may be modified in the leave
+ * method called for it. For example, a visitor may remove an entry from the responses of an operation in
+ * {@link #leaveOperation(Operation, Location)}, but not in {@link #enterAPIResponse(APIResponse, Location)}.
+ *
+ * @since 4.1
+ */
+public interface OpenAPIVisitor {
+
+    /**
+     * The location of a model object within the document being walked.
+     * <p>
+     * Locations are immutable and may be kept after the callback they were passed to has returned.
+     */
+    interface Location {
+
+        /**
+         * Returns the location of the parent of this location.
+         *
+         * @return the parent location, or {@code null} for the location of the document itself
+         */
+        Location getParent();
+
+        /**
+         * Returns the last segment of this location. This is the name of a property as it appears in the OpenAPI
+         * document, the key of a map entry, the lower case name of an HTTP method, or the decimal index of a list
+         * element.
+         *
+         * @return the unescaped last segment, or the empty string for the location of the document itself
+         */
+        String getName();
+
+        /**
+         * Returns the number of segments of this location.
+         *
+         * @return the depth of this location, {@code 0} for the location of the document itself
+         */
+        int getDepth();
+
+        /**
+         * Returns this location as a JSON pointer (RFC 6901) prefixed with {@code #}, in the form used for
+         * {@code $ref} values. Each segment is escaped by replacing {@code ~} with {@code ~0} and {@code /} with
+         * {@code ~1}. For example, the location of the GET operation of path {@code /pets} is
+         * {@code #/paths/~1pets/get}.
+         *
+         * @return this location as a JSON pointer
+         */
+        String getPointer();
+    }
+
+    /**
+     * Called when the walk reaches a model object, unless the type specific enter method for the object is
+     * overridden.
+     *
+     * @param object
+     *            the model object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enter(Constructible object, Location location) {
+        return true;
+    }
+
+    /**
+     * Called when the walk leaves a model object, unless the type specific leave method for the object is overridden.
+     *
+     * @param object
+     *            the model object
+     * @param location
+     *            the location of the object
+     */
+    default void leave(Constructible object, Location location) {
+    }
+
+    /**
+     * Called when the walk reaches a {@link OpenAPI} object.
+     *
+     * @param openAPI
+     *            the OpenAPI object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterOpenAPI(OpenAPI openAPI, Location location) {
+        return enter(openAPI, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link OpenAPI} object.
+     *
+     * @param openAPI
+     *            the OpenAPI object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveOpenAPI(OpenAPI openAPI, Location location) {
+        leave(openAPI, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link Info} object.
+     *
+     * @param info
+     *            the Info object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterInfo(Info info, Location location) {
+        return enter(info, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link Info} object.
+     *
+     * @param info
+     *            the Info object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveInfo(Info info, Location location) {
+        leave(info, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link Contact} object.
+     *
+     * @param contact
+     *            the Contact object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterContact(Contact contact, Location location) {
+        return enter(contact, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link Contact} object.
+     *
+     * @param contact
+     *            the Contact object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveContact(Contact contact, Location location) {
+        leave(contact, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link License} object.
+     *
+     * @param license
+     *            the License object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterLicense(License license, Location location) {
+        return enter(license, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link License} object.
+     *
+     * @param license
+     *            the License object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveLicense(License license, Location location) {
+        leave(license, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link ExternalDocumentation} object.
+     *
+     * @param externalDocs
+     *            the ExternalDocumentation object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterExternalDocumentation(ExternalDocumentation externalDocs, Location location) {
+        return enter(externalDocs, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link ExternalDocumentation} object.
+     *
+     * @param externalDocs
+     *            the ExternalDocumentation object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveExternalDocumentation(ExternalDocumentation externalDocs, Location location) {
+        leave(externalDocs, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link Server} object.
+     *
+     * @param server
+     *            the Server object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterServer(Server server, Location location) {
+        return enter(server, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link Server} object.
+     *
+     * @param server
+     *            the Server object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveServer(Server server, Location location) {
+        leave(server, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link ServerVariable} object.
+     *
+     * @param variable
+     *            the ServerVariable object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterServerVariable(ServerVariable variable, Location location) {
+        return enter(variable, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link ServerVariable} object.
+     *
+     * @param variable
+     *            the ServerVariable object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveServerVariable(ServerVariable variable, Location location) {
+        leave(variable, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link SecurityRequirement} object.
+     *
+     * @param requirement
+     *            the SecurityRequirement object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterSecurityRequirement(SecurityRequirement requirement, Location location) {
+        return enter(requirement, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link SecurityRequirement} object.
+     *
+     * @param requirement
+     *            the SecurityRequirement object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveSecurityRequirement(SecurityRequirement requirement, Location location) {
+        leave(requirement, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link Tag} object.
+     *
+     * @param tag
+     *            the Tag object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterTag(Tag tag, Location location) {
+        return enter(tag, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link Tag} object.
+     *
+     * @param tag
+     *            the Tag object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveTag(Tag tag, Location location) {
+        leave(tag, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link Paths} object.
+     *
+     * @param paths
+     *            the Paths object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterPaths(Paths paths, Location location) {
+        return enter(paths, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link Paths} object.
+     *
+     * @param paths
+     *            the Paths object
+     * @param location
+     *            the location of the object
+     */
+    default void leavePaths(Paths paths, Location location) {
+        leave(paths, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link PathItem} object.
+     *
+     * @param pathItem
+     *            the PathItem object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterPathItem(PathItem pathItem, Location location) {
+        return enter(pathItem, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link PathItem} object.
+     *
+     * @param pathItem
+     *            the PathItem object
+     * @param location
+     *            the location of the object
+     */
+    default void leavePathItem(PathItem pathItem, Location location) {
+        leave(pathItem, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link Operation} object.
+     *
+     * @param operation
+     *            the Operation object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterOperation(Operation operation, Location location) {
+        return enter(operation, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link Operation} object.
+     *
+     * @param operation
+     *            the Operation object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveOperation(Operation operation, Location location) {
+        leave(operation, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link Parameter} object.
+     *
+     * @param parameter
+     *            the Parameter object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterParameter(Parameter parameter, Location location) {
+        return enter(parameter, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link Parameter} object.
+     *
+     * @param parameter
+     *            the Parameter object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveParameter(Parameter parameter, Location location) {
+        leave(parameter, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link RequestBody} object.
+     *
+     * @param requestBody
+     *            the RequestBody object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterRequestBody(RequestBody requestBody, Location location) {
+        return enter(requestBody, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link RequestBody} object.
+     *
+     * @param requestBody
+     *            the RequestBody object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveRequestBody(RequestBody requestBody, Location location) {
+        leave(requestBody, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link APIResponses} object.
+     *
+     * @param responses
+     *            the APIResponses object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterAPIResponses(APIResponses responses, Location location) {
+        return enter(responses, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link APIResponses} object.
+     *
+     * @param responses
+     *            the APIResponses object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveAPIResponses(APIResponses responses, Location location) {
+        leave(responses, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link APIResponse} object.
+     *
+     * @param response
+     *            the APIResponse object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterAPIResponse(APIResponse response, Location location) {
+        return enter(response, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link APIResponse} object.
+     *
+     * @param response
+     *            the APIResponse object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveAPIResponse(APIResponse response, Location location) {
+        leave(response, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link Header} object.
+     *
+     * @param header
+     *            the Header object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterHeader(Header header, Location location) {
+        return enter(header, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link Header} object.
+     *
+     * @param header
+     *            the Header object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveHeader(Header header, Location location) {
+        leave(header, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link Content} object.
+     *
+     * @param content
+     *            the Content object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterContent(Content content, Location location) {
+        return enter(content, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link Content} object.
+     *
+     * @param content
+     *            the Content object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveContent(Content content, Location location) {
+        leave(content, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link MediaType} object.
+     *
+     * @param mediaType
+     *            the MediaType object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterMediaType(MediaType mediaType, Location location) {
+        return enter(mediaType, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link MediaType} object.
+     *
+     * @param mediaType
+     *            the MediaType object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveMediaType(MediaType mediaType, Location location) {
+        leave(mediaType, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link Encoding} object.
+     *
+     * @param encoding
+     *            the Encoding object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterEncoding(Encoding encoding, Location location) {
+        return enter(encoding, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link Encoding} object.
+     *
+     * @param encoding
+     *            the Encoding object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveEncoding(Encoding encoding, Location location) {
+        leave(encoding, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link Example} object.
+     *
+     * @param example
+     *            the Example object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterExample(Example example, Location location) {
+        return enter(example, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link Example} object.
+     *
+     * @param example
+     *            the Example object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveExample(Example example, Location location) {
+        leave(example, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link Link} object.
+     *
+     * @param link
+     *            the Link object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterLink(Link link, Location location) {
+        return enter(link, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link Link} object.
+     *
+     * @param link
+     *            the Link object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveLink(Link link, Location location) {
+        leave(link, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link Callback} object.
+     *
+     * @param callback
+     *            the Callback object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterCallback(Callback callback, Location location) {
+        return enter(callback, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link Callback} object.
+     *
+     * @param callback
+     *            the Callback object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveCallback(Callback callback, Location location) {
+        leave(callback, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link Schema} object.
+     *
+     * @param schema
+     *            the Schema object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterSchema(Schema schema, Location location) {
+        return enter(schema, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link Schema} object.
+     *
+     * @param schema
+     *            the Schema object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveSchema(Schema schema, Location location) {
+        leave(schema, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link Discriminator} object.
+     *
+     * @param discriminator
+     *            the Discriminator object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterDiscriminator(Discriminator discriminator, Location location) {
+        return enter(discriminator, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link Discriminator} object.
+     *
+     * @param discriminator
+     *            the Discriminator object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveDiscriminator(Discriminator discriminator, Location location) {
+        leave(discriminator, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link XML} object.
+     *
+     * @param xml
+     *            the XML object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterXML(XML xml, Location location) {
+        return enter(xml, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link XML} object.
+     *
+     * @param xml
+     *            the XML object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveXML(XML xml, Location location) {
+        leave(xml, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link Components} object.
+     *
+     * @param components
+     *            the Components object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterComponents(Components components, Location location) {
+        return enter(components, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link Components} object.
+     *
+     * @param components
+     *            the Components object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveComponents(Components components, Location location) {
+        leave(components, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link SecurityScheme} object.
+     *
+     * @param securityScheme
+     *            the SecurityScheme object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterSecurityScheme(SecurityScheme securityScheme, Location location) {
+        return enter(securityScheme, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link SecurityScheme} object.
+     *
+     * @param securityScheme
+     *            the SecurityScheme object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveSecurityScheme(SecurityScheme securityScheme, Location location) {
+        leave(securityScheme, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link OAuthFlows} object.
+     *
+     * @param flows
+     *            the OAuthFlows object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterOAuthFlows(OAuthFlows flows, Location location) {
+        return enter(flows, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link OAuthFlows} object.
+     *
+     * @param flows
+     *            the OAuthFlows object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveOAuthFlows(OAuthFlows flows, Location location) {
+        leave(flows, location);
+    }
+
+    /**
+     * Called when the walk reaches a {@link OAuthFlow} object.
+     *
+     * @param flow
+     *            the OAuthFlow object
+     * @param location
+     *            the location of the object
+     * @return {@code true} to walk the children of the object, {@code false} to skip them
+     */
+    default boolean enterOAuthFlow(OAuthFlow flow, Location location) {
+        return enter(flow, location);
+    }
+
+    /**
+     * Called when the walk leaves a {@link OAuthFlow} object.
+     *
+     * @param flow
+     *            the OAuthFlow object
+     * @param location
+     *            the location of the object
+     */
+    default void leaveOAuthFlow(OAuthFlow flow, Location location) {
+        leave(flow, location);
+    }
+}
@@ -38,6 +38,18 @@ import org.eclipse.microprofile.openapi.models.Reference;
  * <p>
  * Any time a Schema Object can be used, a Reference Object can be used in its place. This allows referencing an
  * existing definition instead of defining the same Schema again.
+ * <p>
+ * The properties of a Schema can be accessed both with the typed methods and with {@link #get(String)},
+ * {@link #set(String, Object)} and {@link #getAll()}, but implementations are not required to store them in a map. An
+ * implementation may keep commonly used properties, such as {@code type}, {@code format}, {@code $ref},
+ * {@code description}, {@code properties} and {@code items}, in dedicated fields, and keep the other properties in a
+ * map which is only created when the first of them is set. Whatever the storage, the following rules apply:
+ * <ul>
+ * <li>a value set with a typed method or with {@link #set(String, Object)} is returned, as the same instance, by both
+ * the typed method and {@link #get(String)}</li>
+ * <li>{@link #getAll()} contains an entry for each property which is set, and no entry with a {@code null} value</li>
+ * <li>{@link #getAll()} may return a read-only view of the storage instead of a copy</li>
+ * </ul>
  *
  * @see <a href= "https://spec.openapis.org/oas/v3.1.0.html#schema-object">OpenAPI Specification Schema Object</a>
  */
@@ -2113,6 +2125,11 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
      * <p>
      * Equivalent to calling {@link #get(String)} for each property set to a non-{@code null} value and putting them all
      * into a {@code Map}.
+     * <p>
+     * The returned map is either a copy or, since 4.1, an unmodifiable view which reflects later changes to this
+     * Schema. A view allows implementations which store properties in dedicated fields to avoid creating a map on each
+     * call. Callers must not modify the returned map, and must copy it if they need the properties as they were at the
+     * time of the call. In 4.0, the returned map was always a copy, which callers could modify.
      *
      * @return a {@code Map} of property names to their corresponding values
      * @since 4.0
@@ -2122,7 +2139,8 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
     /**
      * Sets all properties of a schema.
      * <p>
-     * Equivalent to clearing all properties and then setting each property with {@link #set(String, Object)}.
+     * Equivalent to clearing all properties and then setting each property with {@link #set(String, Object)}. The map
+     * may be the value returned by {@link #getAll()} for this Schema, in which case the properties are left unchanged.
      *
      * @param allProperties
      *            the properties to set. Each value in the map must be valid according to the rules in
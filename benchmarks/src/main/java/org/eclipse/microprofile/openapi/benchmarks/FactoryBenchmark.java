@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.Constructible;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of creating model objects with the OASFactory, for each type.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FactoryBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"Components", "ExternalDocumentation", "OpenAPI", "Operation", "PathItem", "Paths", "callbacks.Callback",
+            "examples.Example", "headers.Header", "info.Contact", "info.Info", "info.License", "links.Link",
+            "media.Content", "media.Discriminator", "media.Encoding", "media.MediaType", "media.Schema", "media.XML",
+            "parameters.Parameter", "parameters.RequestBody", "responses.APIResponse", "responses.APIResponses",
+            "security.OAuthFlow", "security.OAuthFlows", "security.SecurityRequirement", "security.SecurityScheme",
+            "servers.Server", "servers.ServerVariable", "tags.Tag"})
+    private String type;
+
+    private Class<? extends Constructible> clazz;
+
+    @Setup
+    public void setup() throws ClassNotFoundException {
+        clazz = Class.forName("org.eclipse.microprofile.openapi.models." + type).asSubclass(Constructible.class);
+    }
+
+    @Benchmark
+    public Constructible createObject() {
+        return OASFactory.createObject(clazz);
+    }
+
+    @Benchmark
+    public List<? extends Constructible> createObjects() {
+        return OASFactory.createObjects(clazz, BATCH_SIZE);
+    }
+}
@@ -0,0 +1,198 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.benchmarks;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.Constructible;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.OpenAPIVisitor;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.links.Link;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures a full OASFilter walk over synthetic documents. The filter is called for each element of the types it
+ * declares in {@link OASFilter#filteredTypes()}, like an implementation calls it, but returns each element unchanged,
+ * so that the document is the same for each invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class FilterBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int operations;
+
+    private OpenAPI openAPI;
+
+    @Setup
+    public void setup() {
+        openAPI = SyntheticDocument.create(operations);
+    }
+
+    @Benchmark
+    public void filterAll(Blackhole blackhole) {
+        openAPI.walk(new FilterVisitor(new OASFilter() {
+        }, blackhole));
+    }
+
+    @Benchmark
+    public void filterOperations(Blackhole blackhole) {
+        openAPI.walk(new FilterVisitor(new OASFilter() {
+            @Override
+            public Operation filterOperation(Operation operation) {
+                return operation.getOperationId() == null ? null : operation;
+            }
+
+            @Override
+            public Set<Class<? extends Constructible>> filteredTypes() {
+                return Set.of(Operation.class);
+            }
+        }, blackhole));
+    }
+
+    /**
+     * Calls the filter methods for the elements of the filtered types, after their children have been filtered.
+     */
+    private static final class FilterVisitor implements OpenAPIVisitor {
+        private final OASFilter filter;
+        private final Blackhole blackhole;
+        private final Set<Class<? extends Constructible>> types;
+
+        FilterVisitor(OASFilter filter, Blackhole blackhole) {
+            this.filter = filter;
+            this.blackhole = blackhole;
+            this.types = filter.filteredTypes();
+        }
+
+        @Override
+        public void leavePathItem(PathItem pathItem, Location location) {
+            if (types.contains(PathItem.class)) {
+                blackhole.consume(filter.filterPathItem(pathItem));
+            }
+        }
+
+        @Override
+        public void leaveOperation(Operation operation, Location location) {
+            if (types.contains(Operation.class)) {
+                blackhole.consume(filter.filterOperation(operation));
+            }
+        }
+
+        @Override
+        public void leaveParameter(Parameter parameter, Location location) {
+            if (types.contains(Parameter.class)) {
+                blackhole.consume(filter.filterParameter(parameter));
+            }
+        }
+
+        @Override
+        public void leaveHeader(Header header, Location location) {
+            if (types.contains(Header.class)) {
+                blackhole.consume(filter.filterHeader(header));
+            }
+        }
+
+        @Override
+        public void leaveRequestBody(RequestBody requestBody, Location location) {
+            if (types.contains(RequestBody.class)) {
+                blackhole.consume(filter.filterRequestBody(requestBody));
+            }
+        }
+
+        @Override
+        public void leaveAPIResponse(APIResponse response, Location location) {
+            if (types.contains(APIResponse.class)) {
+                blackhole.consume(filter.filterAPIResponse(response));
+            }
+        }
+
+        @Override
+        public void leaveSchema(Schema schema, Location location) {
+            if (types.contains(Schema.class)) {
+                blackhole.consume(filter.filterSchema(schema));
+            }
+        }
+
+        @Override
+        public void leaveSecurityScheme(SecurityScheme securityScheme, Location location) {
+            if (types.contains(SecurityScheme.class)) {
+                blackhole.consume(filter.filterSecurityScheme(securityScheme));
+            }
+        }
+
+        @Override
+        public void leaveServer(Server server, Location location) {
+            if (types.contains(Server.class)) {
+                blackhole.consume(filter.filterServer(server));
+            }
+        }
+
+        @Override
+        public void leaveTag(Tag tag, Location location) {
+            if (types.contains(Tag.class)) {
+                blackhole.consume(filter.filterTag(tag));
+            }
+        }
+
+        @Override
+        public void leaveLink(Link link, Location location) {
+            if (types.contains(Link.class)) {
+                blackhole.consume(filter.filterLink(link));
+            }
+        }
+
+        @Override
+        public void leaveCallback(Callback callback, Location location) {
+            if (types.contains(Callback.class)) {
+                blackhole.consume(filter.filterCallback(callback));
+            }
+        }
+
+        @Override
+        public void leaveOpenAPI(OpenAPI openAPI, Location location) {
+            filter.filterOpenAPI(openAPI);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures building a deep Schema graph with the fluent API. Each level of the graph is an object schema with
+ * {@code width} properties, one of which is the object schema of the next level.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaBenchmark {
+
+    @Param({"10", "100"})
+    private int depth;
+
+    @Param({"10"})
+    private int width;
+
+    @Benchmark
+    public Schema buildSchemaGraph() {
+        Schema schema = leaf(0);
+        for (int level = depth - 1; level >= 0; level--) {
+            Schema parent = OASFactory.createSchema()
+                    .addType(Schema.SchemaType.OBJECT)
+                    .title("Level" + level)
+                    .addRequired("child")
+                    .addProperty("child", schema);
+            for (int i = 1; i < width; i++) {
+                parent.addProperty("property" + i, leaf(i));
+            }
+            schema = parent;
+        }
+        return schema;
+    }
+
+    private static Schema leaf(int index) {
+        return OASFactory.createSchema()
+                .addType(Schema.SchemaType.STRING)
+                .format("string" + index)
+                .maxLength(255)
+                .description("Property " + index);
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the heap retained by Schema instances. Each invocation builds {@code schemas} object schemas, each with
+ * three property schemas, an items schema and {@code customKeywords} properties set with
+ * {@link Schema#set(String, Object)}. The heap retained per Schema is reported in the {@code bytesPerSchema} counter,
+ * as the difference of the heap used after garbage collection, read from the MemoryMXBean. All the property values
+ * are shared constants, so the counter only includes the storage of the Schema instances.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class SchemaMemoryBenchmark {
+
+    private static final int SCHEMAS_PER_OBJECT = 5;
+    private static final int GC_CYCLES = 3;
+
+    private static final Integer MAX_LENGTH = 255;
+    private static final BigDecimal MINIMUM = BigDecimal.ONE;
+    private static final String[] CUSTOM_KEYWORDS = {"customKeyword", "x-internal"};
+
+    @Param({"12000"})
+    private int schemas;
+
+    @Param({"0", "2"})
+    private int customKeywords;
+
+    private Schema[] retained;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long bytesPerSchema;
+    }
+
+    @Benchmark
+    public Schema[] retainedHeap(Footprint footprint) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        retained = null;
+        Schema[] result = new Schema[schemas];
+        long before = usedHeap(memory);
+        for (int i = 0; i < schemas; i++) {
+            result[i] = objectSchema();
+        }
+        long after = usedHeap(memory);
+        footprint.bytesPerSchema = (after - before) / ((long) schemas * SCHEMAS_PER_OBJECT);
+        retained = result;
+        return result;
+    }
+
+    @TearDown
+    public void release() {
+        retained = null;
+    }
+
+    private Schema objectSchema() {
+        Schema schema = OASFactory.createSchema()
+                .addType(Schema.SchemaType.OBJECT)
+                .title("Object")
+                .description("An object schema")
+                .addRequired("id")
+                .addProperty("id", OASFactory.createSchema().addType(Schema.SchemaType.INTEGER).format("int64")
+                        .minimum(MINIMUM))
+                .addProperty("name", OASFactory.createSchema().addType(Schema.SchemaType.STRING)
+                        .maxLength(MAX_LENGTH))
+                .addProperty("tags", OASFactory.createSchema().addType(Schema.SchemaType.ARRAY)
+                        .items(OASFactory.createSchema().ref("Tag")));
+        for (int i = 0; i < customKeywords; i++) {
+            schema.set(CUSTOM_KEYWORDS[i % CUSTOM_KEYWORDS.length], Boolean.TRUE);
+        }
+        return schema;
+    }
+
+    private static long usedHeap(MemoryMXBean memory) {
+        for (int i = 0; i < GC_CYCLES; i++) {
+            memory.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
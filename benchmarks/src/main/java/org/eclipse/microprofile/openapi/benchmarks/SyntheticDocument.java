@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.benchmarks;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+
+/**
+ * Builds large, regular documents for the benchmarks.
+ * <p>
+ * A document with {@code n} operations has {@code n} paths named {@code /items/<i>}, each with a GET operation whose
+ * 200 response refers to schema {@code Item<i % s>}, where {@code s} is {@code n / 10} but at least 1. Each schema has
+ * an {@code id}, a {@code name} and a {@code next} property, the last referring to the following schema.
+ */
+public final class SyntheticDocument {
+
+    private SyntheticDocument() {
+    }
+
+    public static OpenAPI create(int operationCount) {
+        int schemaCount = Math.max(1, operationCount / 10);
+
+        Paths paths = OASFactory.createPaths(operationCount);
+        for (int i = 0; i < operationCount; i++) {
+            Operation get = OASFactory.createOperation()
+                    .operationId("getItem" + i)
+                    .addTag("items")
+                    .addParameter(OASFactory.createParameter()
+                            .name("expand")
+                            .in(Parameter.In.QUERY)
+                            .schema(OASFactory.createSchema().addType(Schema.SchemaType.BOOLEAN)))
+                    .responses(OASFactory.createAPIResponses(2)
+                            .addAPIResponse("200", OASFactory.createAPIResponse()
+                                    .description("Item " + i)
+                                    .content(OASFactory.createContent()
+                                            .addMediaType("application/json", OASFactory.createMediaType()
+                                                    .schema(OASFactory.createSchema()
+                                                            .ref("Item" + (i % schemaCount))))))
+                            .addAPIResponse("404", OASFactory.createAPIResponse().description("Not found")));
+            PathItem pathItem = OASFactory.createPathItem().GET(get);
+            paths.addPathItem("/items/" + i, pathItem);
+        }
+
+        Components components = OASFactory.createComponents(schemaCount);
+        for (int j = 0; j < schemaCount; j++) {
+            components.addSchema("Item" + j, OASFactory.createSchema()
+                    .addType(Schema.SchemaType.OBJECT)
+                    .addRequired("id")
+                    .addProperty("id", OASFactory.createSchema().addType(Schema.SchemaType.INTEGER).format("int64"))
+                    .addProperty("name", OASFactory.createSchema().addType(Schema.SchemaType.STRING).maxLength(255))
+                    .addProperty("next", OASFactory.createSchema().ref("Item" + ((j + 1) % schemaCount))));
+        }
+
+        return OASFactory.createOpenAPI()
+                .openapi("3.1.0")
+                .info(OASFactory.createInfo().title("Synthetic API").version("1.0.0"))
+                .addTag(OASFactory.createTag().name("items"))
+                .paths(paths)
+                .components(components);
+    }
+}
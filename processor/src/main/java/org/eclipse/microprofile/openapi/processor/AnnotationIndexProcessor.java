@@ -0,0 +1,274 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor which writes an index of the classes of an archive that use MicroProfile OpenAPI or Jakarta
+ * REST annotations.
+ * <p>
+ * The index is written to {@value #INDEX_LOCATION} in the class output directory. It is a UTF-8 text file with one
+ * line for each indexed class, sorted by class name. Each line contains the binary name of the class, followed by the
+ * sorted names of the annotation types used on the class or on any of its members or parameters, separated by single
+ * spaces. Annotations on a package are recorded for the class name <code>package-info</code> of the package. Lines
+ * starting with <code>#</code> are comments.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * <code>
+ * com.example.PetResource jakarta.ws.rs.GET jakarta.ws.rs.Path org.eclipse.microprofile.openapi.annotations.Operation
+ * com.example.model.Pet org.eclipse.microprofile.openapi.annotations.media.Schema
+ * </code>
+ * </pre>
+ * <p>
+ * A class which inherits annotations from a superclass or an implemented interface, for example a resource class
+ * implementing an interface annotated with {@code @Path}, is indexed with the annotations of its supertypes, even if it
+ * declares no annotations itself.
+ * <p>
+ * When only some of the classes are compiled again, the entries of an existing index are kept for the classes which
+ * were not compiled again.
+ */
+@SupportedAnnotationTypes("*")
+public class AnnotationIndexProcessor extends AbstractProcessor {
+
+    /**
+     * The location of the index, relative to the root of the archive.
+     */
+    public static final String INDEX_LOCATION = "META-INF/microprofile-openapi-index";
+
+    private static final String PACKAGE_INFO = "package-info";
+
+    private static final String[] INDEXED_PACKAGES = {
+            "org.eclipse.microprofile.openapi.annotations.",
+            "jakarta.ws.rs."
+    };
+
+    private final Map<String, SortedSet<String>> index = new TreeMap<>();
+    private final Set<String> compiledTypes = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getRootElements()) {
+            compiledTypes.add(getIndexedName(element));
+            addToIndex(element);
+        }
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+        // Other processors may also be interested in these annotations
+        return false;
+    }
+
+    /**
+     * Adds the annotations used by a compiled package or class, and by its nested classes, to the index.
+     */
+    private void addToIndex(Element element) {
+        SortedSet<String> annotationNames = new TreeSet<>();
+        if (element instanceof PackageElement) {
+            addAnnotations(element, annotationNames);
+        } else if (element instanceof TypeElement) {
+            TypeElement type = (TypeElement) element;
+            addDeclaredAnnotations(type, annotationNames);
+            addInheritedAnnotations(type.asType(), new HashSet<>(), annotationNames);
+            for (Element member : type.getEnclosedElements()) {
+                if (member instanceof TypeElement) {
+                    addToIndex(member);
+                }
+            }
+        }
+        if (!annotationNames.isEmpty()) {
+            index.computeIfAbsent(getIndexedName(element), k -> new TreeSet<>()).addAll(annotationNames);
+        }
+    }
+
+    /**
+     * Adds the indexed annotations used on a class or on any of its members or parameters, excluding nested classes.
+     */
+    private void addDeclaredAnnotations(TypeElement type, Set<String> annotationNames) {
+        addAnnotations(type, annotationNames);
+        for (Element member : type.getEnclosedElements()) {
+            if (member instanceof TypeElement) {
+                continue;
+            }
+            addAnnotations(member, annotationNames);
+            if (member instanceof ExecutableElement) {
+                for (VariableElement parameter : ((ExecutableElement) member).getParameters()) {
+                    addAnnotations(parameter, annotationNames);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the indexed annotations declared by all superclasses and implemented interfaces of a type, whether they are
+     * compiled in this round or read from the class path.
+     */
+    private void addInheritedAnnotations(TypeMirror type, Set<String> visited, Set<String> annotationNames) {
+        Types types = processingEnv.getTypeUtils();
+        for (TypeMirror supertype : types.directSupertypes(type)) {
+            Element element = types.asElement(supertype);
+            if (element instanceof TypeElement) {
+                TypeElement superElement = (TypeElement) element;
+                if (visited.add(superElement.getQualifiedName().toString())) {
+                    addDeclaredAnnotations(superElement, annotationNames);
+                    addInheritedAnnotations(supertype, visited, annotationNames);
+                }
+            }
+        }
+    }
+
+    private static void addAnnotations(Element element, Set<String> annotationNames) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            Element annotationType = annotation.getAnnotationType().asElement();
+            String name = ((TypeElement) annotationType).getQualifiedName().toString();
+            for (String indexedPackage : INDEXED_PACKAGES) {
+                if (name.startsWith(indexedPackage)) {
+                    annotationNames.add(name);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the name recorded in the index for the class or package which declares an element.
+     */
+    private String getIndexedName(Element element) {
+        Elements elements = processingEnv.getElementUtils();
+        Element e = element;
+        while (e != null) {
+            if (e instanceof TypeElement) {
+                return elements.getBinaryName((TypeElement) e).toString();
+            }
+            if (e instanceof PackageElement) {
+                String packageName = ((PackageElement) e).getQualifiedName().toString();
+                return packageName.isEmpty() ? PACKAGE_INFO : packageName + "." + PACKAGE_INFO;
+            }
+            e = e.getEnclosingElement();
+        }
+        throw new IllegalArgumentException("No enclosing class or package for " + element);
+    }
+
+    private void writeIndex() {
+        Filer filer = processingEnv.getFiler();
+        if (!readPreviousIndex(filer) && index.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, SortedSet<String>> entry : index.entrySet()) {
+                    writer.write(entry.getKey());
+                    for (String annotation : entry.getValue()) {
+                        writer.write(' ');
+                        writer.write(annotation);
+                    }
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write " + INDEX_LOCATION + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adds the entries of an existing index for the classes which were not compiled again and still exist.
+     *
+     * @return true if there is an existing index
+     */
+    private boolean readPreviousIndex(Filer filer) {
+        FileObject file;
+        try {
+            file = filer.getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+        } catch (IOException | IllegalArgumentException e) {
+            // No previous index
+            return false;
+        }
+        Elements elements = processingEnv.getElementUtils();
+        try (BufferedReader lines = new BufferedReader(
+                new InputStreamReader(file.openInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                String[] fields = line.trim().split(" ");
+                String name = fields[0];
+                if (name.isEmpty() || name.startsWith("#") || fields.length < 2 || isCompiled(name)) {
+                    continue;
+                }
+                boolean exists = name.endsWith(PACKAGE_INFO)
+                        ? elements.getPackageElement(getPackageName(name)) != null
+                        : elements.getTypeElement(name.replace('$', '.')) != null;
+                if (exists) {
+                    SortedSet<String> annotationNames = index.computeIfAbsent(name, k -> new TreeSet<>());
+                    for (int i = 1; i < fields.length; i++) {
+                        annotationNames.add(fields[i]);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // The previous index does not exist or can not be read
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isCompiled(String name) {
+        int nested = name.indexOf('$');
+        return compiledTypes.contains(nested < 0 ? name : name.substring(0, nested));
+    }
+
+    private static String getPackageName(String name) {
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? "" : name.substring(0, dot);
+    }
+}
@@ -0,0 +1,864 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor which generates an {@code OASModelReader} from the {@code @OpenAPIDefinition},
+ * {@code @Components}, {@code @Schema} and {@code @SchemaProperty} annotations of an application.
+ * <p>
+ * The processor only runs if the option {@value #READER_OPTION} is set to the fully qualified name of the class to
+ * generate, for example with {@code -Amp.openapi.processor.reader=com.example.GeneratedModelReader}. The generated
+ * class builds the model with {@code OASFactory} and needs no reflection when the application is started. It covers
+ * the annotations of the classes and packages in the package of the generated class and its subpackages:
+ * <ul>
+ * <li>the {@code info}, {@code tags}, {@code servers}, {@code externalDocs}, {@code components} and
+ * {@code extensions} of an {@code @OpenAPIDefinition}</li>
+ * <li>the {@code schemas} of {@code @Components}</li>
+ * <li>a schema for each class which is the {@code implementation} of one of these schemas, or which is referenced by
+ * such a class, with a property for each non-static, non-transient field and for each {@code @SchemaProperty}</li>
+ * </ul>
+ * Each class for which a schema is generated is added to the components with the {@code name} of its {@code @Schema}
+ * annotation, or its simple name, and is referenced with a {@code $ref}. Only the annotation attributes which are
+ * set explicitly are used. An attribute which can not be represented in the generated class is reported as an error,
+ * so that no attribute of the supported annotations is silently ignored.
+ * <p>
+ * The class or package annotated with {@code @OpenAPIDefinition} must be compiled together with the classes it refers
+ * to. The processor is only called when a MicroProfile OpenAPI annotation is compiled, so nothing is generated by a
+ * compilation without any of them. If MicroProfile OpenAPI annotations are compiled but no {@code @OpenAPIDefinition}
+ * is among them, for example when only a model class is compiled again, a warning is reported and nothing is
+ * generated, so that a previously generated reader is not replaced by an empty one.
+ */
+@SupportedAnnotationTypes("org.eclipse.microprofile.openapi.annotations.*")
+@SupportedOptions(ModelReaderProcessor.READER_OPTION)
+public class ModelReaderProcessor extends AbstractProcessor {
+
+    /**
+     * The processor option to specify the fully qualified name of the {@code OASModelReader} to generate.
+     */
+    public static final String READER_OPTION = "mp.openapi.processor.reader";
+
+    private static final String ANNOTATIONS = "org.eclipse.microprofile.openapi.annotations.";
+    private static final String OPENAPI_DEFINITION = ANNOTATIONS + "OpenAPIDefinition";
+    private static final String SCHEMA = ANNOTATIONS + "media.Schema";
+    private static final String FACTORY = "org.eclipse.microprofile.openapi.OASFactory";
+    private static final String SCHEMA_TYPE = "org.eclipse.microprofile.openapi.models.media.Schema.SchemaType";
+
+    private boolean generated;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        String readerName = processingEnv.getOptions().get(READER_OPTION);
+        if (readerName == null || readerName.isEmpty() || generated || roundEnv.processingOver()) {
+            return false;
+        }
+        generated = true;
+
+        int dot = readerName.lastIndexOf('.');
+        String readerPackage = dot < 0 ? "" : readerName.substring(0, dot);
+        Element definition = null;
+        for (Element element : roundEnv.getRootElements()) {
+            if (isInPackage(element, readerPackage) && getAnnotation(element, OPENAPI_DEFINITION) != null) {
+                if (definition != null) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                            "Only one @OpenAPIDefinition is supported in package " + readerPackage
+                                    + " and its subpackages",
+                            element);
+                    return false;
+                }
+                definition = element;
+            }
+        }
+
+        if (definition == null) {
+            // Typically an incremental compilation of model classes only, which must not replace the generated reader
+            // with an empty one
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "No class or package annotated with @OpenAPIDefinition is compiled in package " + readerPackage
+                            + " and its subpackages, so " + readerName + " is not generated");
+            return false;
+        }
+
+        Generator generator = new Generator();
+        String source = generator.generate(readerName, definition);
+        if (!generator.failed) {
+            try (Writer writer = processingEnv.getFiler().createSourceFile(readerName, definition).openWriter()) {
+                writer.write(source);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Unable to write " + readerName + ": " + e.getMessage());
+            }
+        }
+        return false;
+    }
+
+    private boolean isInPackage(Element element, String packageName) {
+        String name = processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+        return packageName.isEmpty() || name.equals(packageName) || name.startsWith(packageName + ".");
+    }
+
+    private static AnnotationMirror getAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName()
+                    .contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the attributes of an annotation which are set explicitly, by name.
+     */
+    private static Map<String, AnnotationValue> getValues(AnnotationMirror mirror) {
+        Map<String, AnnotationValue> values = new LinkedHashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues()
+                .entrySet()) {
+            values.put(entry.getKey().getSimpleName().toString(), entry.getValue());
+        }
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<AnnotationValue> asList(AnnotationValue value) {
+        if (value.getValue() instanceof List) {
+            return (List<AnnotationValue>) value.getValue();
+        }
+        return Collections.singletonList(value);
+    }
+
+    private static String literal(String value) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < ' ') {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * A chain of fluent method calls on a newly created model object.
+     */
+    private static final class Chain {
+        private final String create;
+        private final List<String> methods = new ArrayList<>();
+        private final List<Object[]> arguments = new ArrayList<>();
+        // The type of a schema, as the name of a SchemaType constant, used to convert values
+        private String schemaType;
+
+        Chain(String create) {
+            this.create = create;
+        }
+
+        Chain call(String method, Object... args) {
+            methods.add(method);
+            arguments.add(args);
+            return this;
+        }
+
+        void render(StringBuilder sb, String indent) {
+            sb.append(create);
+            String continuation = indent + "        ";
+            for (int i = 0; i < methods.size(); i++) {
+                sb.append('\n').append(continuation).append('.').append(methods.get(i)).append('(');
+                Object[] args = arguments.get(i);
+                for (int j = 0; j < args.length; j++) {
+                    if (j > 0) {
+                        sb.append(", ");
+                    }
+                    if (args[j] instanceof Chain) {
+                        ((Chain) args[j]).render(sb, continuation);
+                    } else {
+                        sb.append(args[j]);
+                    }
+                }
+                sb.append(')');
+            }
+        }
+    }
+
+    /**
+     * Generates the source of the model reader. Errors are reported with the messager and set {@link #failed}.
+     */
+    private final class Generator {
+        private final Messager messager = processingEnv.getMessager();
+        private final Elements elements = processingEnv.getElementUtils();
+        private final Types types = processingEnv.getTypeUtils();
+        // Component schemas by name, in the order they are added
+        private final Map<String, Chain> components = new LinkedHashMap<>();
+        // Component schema names by the qualified name of the class they are generated from
+        private final Map<String, String> componentNames = new HashMap<>();
+        private final Deque<TypeElement> pending = new ArrayDeque<>();
+        private boolean failed;
+
+        String generate(String readerName, Element definition) {
+            Chain openAPI = new Chain(FACTORY + ".createOpenAPI()");
+            AnnotationMirror mirror = getAnnotation(definition, OPENAPI_DEFINITION);
+            for (Map.Entry<String, AnnotationValue> entry : getValues(mirror).entrySet()) {
+                AnnotationValue value = entry.getValue();
+                switch (entry.getKey()) {
+                    case "info":
+                        openAPI.call("info", info(definition, (AnnotationMirror) value.getValue()));
+                        break;
+                    case "tags":
+                        for (AnnotationValue tag : asList(value)) {
+                            openAPI.call("addTag", tag(definition, (AnnotationMirror) tag.getValue()));
+                        }
+                        break;
+                    case "servers":
+                        for (AnnotationValue server : asList(value)) {
+                            openAPI.call("addServer", server(definition, (AnnotationMirror) server.getValue()));
+                        }
+                        break;
+                    case "externalDocs":
+                        openAPI.call("externalDocs", externalDocs(definition, (AnnotationMirror) value.getValue()));
+                        break;
+                    case "components":
+                        addComponents(definition, (AnnotationMirror) value.getValue());
+                        break;
+                    case "extensions":
+                        addExtensions(openAPI, definition, value);
+                        break;
+                    default:
+                        unsupported(definition, mirror, entry.getKey(), value);
+                }
+            }
+            while (!pending.isEmpty()) {
+                TypeElement type = pending.remove();
+                components.put(componentNames.get(type.getQualifiedName().toString()), classSchema(type));
+            }
+
+            StringBuilder methods = new StringBuilder();
+            if (!components.isEmpty()) {
+                Chain chain = new Chain(FACTORY + ".createComponents()");
+                int i = 0;
+                for (Map.Entry<String, Chain> component : components.entrySet()) {
+                    String method = "schema" + i++;
+                    chain.call("addSchema", literal(component.getKey()), method + "()");
+                    methods.append("\n    private static org.eclipse.microprofile.openapi.models.media.Schema ")
+                            .append(method).append("() {\n        return ");
+                    component.getValue().render(methods, "        ");
+                    methods.append(";\n    }\n");
+                }
+                openAPI.call("components", chain);
+            }
+
+            int dot = readerName.lastIndexOf('.');
+            StringBuilder sb = new StringBuilder();
+            if (dot > 0) {
+                sb.append("package ").append(readerName, 0, dot).append(";\n\n");
+            }
+            sb.append("@javax.annotation.processing.Generated(\"").append(ModelReaderProcessor.class.getName())
+                    .append("\")\n")
+                    .append("public class ").append(readerName.substring(dot + 1))
+                    .append(" implements org.eclipse.microprofile.openapi.OASModelReader {\n\n")
+                    .append("    @Override\n")
+                    .append("    public org.eclipse.microprofile.openapi.models.OpenAPI buildModel() {\n")
+                    .append("        return ");
+            openAPI.render(sb, "        ");
+            sb.append(";\n    }\n").append(methods).append("}\n");
+            return sb.toString();
+        }
+
+        private Chain info(Element element, AnnotationMirror mirror) {
+            Chain info = new Chain(FACTORY + ".createInfo()");
+            for (Map.Entry<String, AnnotationValue> entry : getValues(mirror).entrySet()) {
+                AnnotationValue value = entry.getValue();
+                switch (entry.getKey()) {
+                    case "title":
+                    case "description":
+                    case "termsOfService":
+                    case "version":
+                    case "summary":
+                        info.call(entry.getKey(), literal((String) value.getValue()));
+                        break;
+                    case "contact":
+                        info.call("contact", simple(element, (AnnotationMirror) value.getValue(),
+                                FACTORY + ".createContact()", "name", "url", "email"));
+                        break;
+                    case "license":
+                        info.call("license", simple(element, (AnnotationMirror) value.getValue(),
+                                FACTORY + ".createLicense()", "name", "identifier", "url"));
+                        break;
+                    case "extensions":
+                        addExtensions(info, element, value);
+                        break;
+                    default:
+                        unsupported(element, mirror, entry.getKey(), value);
+                }
+            }
+            return info;
+        }
+
+        private Chain tag(Element element, AnnotationMirror mirror) {
+            Chain tag = new Chain(FACTORY + ".createTag()");
+            for (Map.Entry<String, AnnotationValue> entry : getValues(mirror).entrySet()) {
+                AnnotationValue value = entry.getValue();
+                switch (entry.getKey()) {
+                    case "name":
+                    case "description":
+                        tag.call(entry.getKey(), literal((String) value.getValue()));
+                        break;
+                    case "externalDocs":
+                        tag.call("externalDocs", externalDocs(element, (AnnotationMirror) value.getValue()));
+                        break;
+                    case "extensions":
+                        addExtensions(tag, element, value);
+                        break;
+                    default:
+                        unsupported(element, mirror, entry.getKey(), value);
+                }
+            }
+            return tag;
+        }
+
+        private Chain server(Element element, AnnotationMirror mirror) {
+            return simple(element, mirror, FACTORY + ".createServer()", "url", "description");
+        }
+
+        private Chain externalDocs(Element element, AnnotationMirror mirror) {
+            return simple(element, mirror, FACTORY + ".createExternalDocumentation()", "description", "url");
+        }
+
+        /**
+         * Creates a model object whose supported attributes are all strings or extensions.
+         */
+        private Chain simple(Element element, AnnotationMirror mirror, String create, String... properties) {
+            Chain chain = new Chain(create);
+            for (Map.Entry<String, AnnotationValue> entry : getValues(mirror).entrySet()) {
+                AnnotationValue value = entry.getValue();
+                if (List.of(properties).contains(entry.getKey())) {
+                    chain.call(entry.getKey(), literal((String) value.getValue()));
+                } else if (entry.getKey().equals("extensions")) {
+                    addExtensions(chain, element, value);
+                } else {
+                    unsupported(element, mirror, entry.getKey(), value);
+                }
+            }
+            return chain;
+        }
+
+        private void addExtensions(Chain chain, Element element, AnnotationValue extensions) {
+            for (AnnotationValue extension : asList(extensions)) {
+                AnnotationMirror mirror = (AnnotationMirror) extension.getValue();
+                Map<String, AnnotationValue> values = getValues(mirror);
+                if (values.containsKey("parseValue") && (Boolean) values.get("parseValue").getValue()) {
+                    unsupported(element, mirror, "parseValue", values.get("parseValue"));
+                    continue;
+                }
+                chain.call("addExtension", literal((String) values.get("name").getValue()),
+                        literal((String) values.get("value").getValue()));
+            }
+        }
+
+        private void addComponents(Element element, AnnotationMirror mirror) {
+            for (Map.Entry<String, AnnotationValue> entry : getValues(mirror).entrySet()) {
+                if (!entry.getKey().equals("schemas")) {
+                    unsupported(element, mirror, entry.getKey(), entry.getValue());
+                    continue;
+                }
+                for (AnnotationValue schemaValue : asList(entry.getValue())) {
+                    AnnotationMirror schema = (AnnotationMirror) schemaValue.getValue();
+                    Map<String, AnnotationValue> values = getValues(schema);
+                    AnnotationValue name = values.get("name");
+                    if (name == null) {
+                        error("The schemas of @Components must have a name", element, schema, null);
+                        continue;
+                    }
+                    String componentName = (String) name.getValue();
+                    if (components.containsKey(componentName)) {
+                        error("Duplicate component schema " + componentName, element, schema, name);
+                        continue;
+                    }
+                    Chain chain;
+                    TypeElement implementation = getClass(values.get("implementation"));
+                    if (implementation != null) {
+                        componentNames.putIfAbsent(implementation.getQualifiedName().toString(), componentName);
+                        chain = classSchema(implementation);
+                    } else {
+                        chain = new Chain(FACTORY + ".createSchema()");
+                    }
+                    components.put(componentName, applySchema(chain, element, schema, null));
+                }
+            }
+        }
+
+        /**
+         * Returns the class of a Class valued attribute, or null if it is not set or set to Void.
+         */
+        private TypeElement getClass(AnnotationValue value) {
+            if (value == null || !(value.getValue() instanceof DeclaredType)) {
+                return null;
+            }
+            TypeElement type = (TypeElement) ((DeclaredType) value.getValue()).asElement();
+            return type.getQualifiedName().contentEquals(Void.class.getName()) ? null : type;
+        }
+
+        /**
+         * Returns a reference to the component schema of a class, adding the schema if needed.
+         */
+        private Chain reference(TypeElement type) {
+            String qualifiedName = type.getQualifiedName().toString();
+            String name = componentNames.get(qualifiedName);
+            if (name == null) {
+                name = type.getSimpleName().toString();
+                AnnotationMirror schema = getAnnotation(type, SCHEMA);
+                if (schema != null && getValues(schema).containsKey("name")) {
+                    name = (String) getValues(schema).get("name").getValue();
+                }
+                if (componentNames.containsValue(name) || components.containsKey(name)) {
+                    error("Duplicate component schema " + name + " for " + qualifiedName, type, null, null);
+                }
+                componentNames.put(qualifiedName, name);
+                pending.add(type);
+            }
+            return new Chain(FACTORY + ".createSchema()").call("ref", literal(name));
+        }
+
+        /**
+         * Creates the schema of a class, from its fields and its {@code @Schema} annotation.
+         */
+        private Chain classSchema(TypeElement type) {
+            Chain schema = new Chain(FACTORY + ".createSchema()").call("addType", SCHEMA_TYPE + ".OBJECT");
+            schema.schemaType = "OBJECT";
+            Map<String, Chain> properties = new LinkedHashMap<>();
+            List<String> required = new ArrayList<>();
+            for (VariableElement field : getFields(type)) {
+                AnnotationMirror annotation = getAnnotation(field, SCHEMA);
+                Map<String, AnnotationValue> values = annotation == null ? Map.of() : getValues(annotation);
+                if (isTrue(values.get("hidden"))) {
+                    continue;
+                }
+                String name = values.containsKey("name") ? (String) values.get("name").getValue()
+                        : field.getSimpleName().toString();
+                properties.put(name, propertySchema(field, field.asType(), annotation));
+                if (isTrue(values.get("required"))) {
+                    required.add(name);
+                }
+            }
+
+            AnnotationMirror annotation = getAnnotation(type, SCHEMA);
+            if (annotation != null) {
+                AnnotationValue value = getValues(annotation).get("properties");
+                for (AnnotationValue property : value == null ? List.<AnnotationValue>of() : asList(value)) {
+                    AnnotationMirror mirror = (AnnotationMirror) property.getValue();
+                    Map<String, AnnotationValue> values = getValues(mirror);
+                    String name = (String) values.get("name").getValue();
+                    if (isTrue(values.get("hidden"))) {
+                        properties.remove(name);
+                        required.remove(name);
+                        continue;
+                    }
+                    Chain existing = properties.get(name);
+                    properties.put(name, existing == null ? propertySchema(type, null, mirror)
+                            : applySchema(values.containsKey("type") ? new Chain(FACTORY + ".createSchema()")
+                                    : existing, type, mirror, null));
+                }
+            }
+            for (Map.Entry<String, Chain> property : properties.entrySet()) {
+                schema.call("addProperty", literal(property.getKey()), property.getValue());
+            }
+            for (String name : required) {
+                schema.call("addRequired", literal(name));
+            }
+            return annotation == null ? schema : applySchema(schema, type, annotation, "properties");
+        }
+
+        /**
+         * Returns the non-static, non-transient fields of a class and its superclasses, superclass fields first.
+         */
+        private List<VariableElement> getFields(TypeElement type) {
+            List<VariableElement> fields = new ArrayList<>();
+            TypeMirror superclass = type.getSuperclass();
+            if (superclass.getKind() == TypeKind.DECLARED) {
+                TypeElement superType = (TypeElement) ((DeclaredType) superclass).asElement();
+                if (!superType.getQualifiedName().contentEquals(Object.class.getName())) {
+                    fields.addAll(getFields(superType));
+                }
+            }
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                Set<Modifier> modifiers = field.getModifiers();
+                if (!modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.TRANSIENT)) {
+                    fields.add(field);
+                }
+            }
+            return fields;
+        }
+
+        /**
+         * Creates the schema of a property from its Java type, if any, and its {@code @Schema} or
+         * {@code @SchemaProperty} annotation, if any.
+         */
+        private Chain propertySchema(Element element, TypeMirror type, AnnotationMirror annotation) {
+            Map<String, AnnotationValue> values = annotation == null ? Map.of() : getValues(annotation);
+            Chain schema;
+            TypeElement implementation = getClass(values.get("implementation"));
+            if (values.containsKey("type") || values.containsKey("ref")) {
+                schema = new Chain(FACTORY + ".createSchema()");
+            } else if (implementation != null) {
+                schema = typeSchema(element, implementation.asType());
+            } else if (type != null) {
+                schema = typeSchema(element, type);
+            } else {
+                schema = new Chain(FACTORY + ".createSchema()");
+            }
+            return annotation == null ? schema : applySchema(schema, element, annotation, null);
+        }
+
+        /**
+         * Creates the schema of a Java type.
+         */
+        private Chain typeSchema(Element element, TypeMirror type) {
+            switch (type.getKind()) {
+                case BOOLEAN:
+                    return primitive("BOOLEAN", null);
+                case BYTE:
+                case SHORT:
+                case INT:
+                    return primitive("INTEGER", "int32");
+                case LONG:
+                    return primitive("INTEGER", "int64");
+                case FLOAT:
+                    return primitive("NUMBER", "float");
+                case DOUBLE:
+                    return primitive("NUMBER", "double");
+                case CHAR:
+                    return primitive("STRING", null);
+                case ARRAY:
+                    TypeMirror component = ((ArrayType) type).getComponentType();
+                    if (component.getKind() == TypeKind.BYTE) {
+                        break;
+                    }
+                    return array(element, component);
+                case DECLARED:
+                    return declaredSchema(element, (DeclaredType) type);
+                default:
+                    break;
+            }
+            error("The type " + type + " is not supported by the generated OASModelReader", element, null, null);
+            return new Chain(FACTORY + ".createSchema()");
+        }
+
+        private Chain declaredSchema(Element element, DeclaredType type) {
+            TypeElement typeElement = (TypeElement) type.asElement();
+            switch (typeElement.getQualifiedName().toString()) {
+                case "java.lang.String":
+                case "java.lang.Character":
+                    return primitive("STRING", null);
+                case "java.lang.Boolean":
+                    return primitive("BOOLEAN", null);
+                case "java.lang.Byte":
+                case "java.lang.Short":
+                case "java.lang.Integer":
+                    return primitive("INTEGER", "int32");
+                case "java.lang.Long":
+                    return primitive("INTEGER", "int64");
+                case "java.lang.Float":
+                    return primitive("NUMBER", "float");
+                case "java.lang.Double":
+                    return primitive("NUMBER", "double");
+                case "java.math.BigDecimal":
+                    return primitive("NUMBER", null);
+                case "java.math.BigInteger":
+                    return primitive("INTEGER", null);
+                case "java.time.LocalDate":
+                    return primitive("STRING", "date");
+                case "java.time.LocalDateTime":
+                case "java.time.OffsetDateTime":
+                case "java.time.ZonedDateTime":
+                case "java.time.Instant":
+                    return primitive("STRING", "date-time");
+                case "java.util.UUID":
+                    return primitive("STRING", "uuid");
+                default:
+                    break;
+            }
+            if (typeElement.getKind() == ElementKind.ENUM) {
+                Chain schema = primitive("STRING", null);
+                for (Element constant : typeElement.getEnclosedElements()) {
+                    if (constant.getKind() == ElementKind.ENUM_CONSTANT) {
+                        schema.call("addEnumeration", literal(constant.getSimpleName().toString()));
+                    }
+                }
+                return schema;
+            }
+            TypeMirror collection = types.erasure(elements.getTypeElement("java.util.Collection").asType());
+            if (types.isAssignable(types.erasure(type), collection) && type.getTypeArguments().size() == 1) {
+                return array(element, type.getTypeArguments().get(0));
+            }
+            String packageName = elements.getPackageOf(typeElement).getQualifiedName().toString();
+            if (packageName.startsWith("java.") || packageName.startsWith("javax.")
+                    || typeElement.getKind() == ElementKind.INTERFACE) {
+                error("The type " + type + " is not supported by the generated OASModelReader", element, null, null);
+                return new Chain(FACTORY + ".createSchema()");
+            }
+            return reference(typeElement);
+        }
+
+        private Chain primitive(String schemaType, String format) {
+            Chain schema = new Chain(FACTORY + ".createSchema()").call("addType", SCHEMA_TYPE + "." + schemaType);
+            if (format != null) {
+                schema.call("format", literal(format));
+            }
+            schema.schemaType = schemaType;
+            return schema;
+        }
+
+        private Chain array(Element element, TypeMirror itemType) {
+            Chain schema = new Chain(FACTORY + ".createSchema()").call("addType", SCHEMA_TYPE + ".ARRAY")
+                    .call("items", typeSchema(element, itemType));
+            schema.schemaType = "ARRAY";
+            return schema;
+        }
+
+        /**
+         * Applies the explicitly set attributes of a {@code @Schema} or {@code @SchemaProperty} annotation to a
+         * schema. The attributes which select or name the schema are handled by the caller.
+         */
+        private Chain applySchema(Chain schema, Element element, AnnotationMirror mirror, String handled) {
+            Map<String, AnnotationValue> values = getValues(mirror);
+            AnnotationValue typeValue = values.get("type");
+            if (typeValue != null) {
+                String schemaType = ((VariableElement) typeValue.getValue()).getSimpleName().toString();
+                if (!schemaType.equals("DEFAULT") && !schemaType.equals(schema.schemaType)) {
+                    schema.call("addType", SCHEMA_TYPE + "." + schemaType);
+                    schema.schemaType = schemaType;
+                }
+            }
+            for (Map.Entry<String, AnnotationValue> entry : values.entrySet()) {
+                String key = entry.getKey();
+                AnnotationValue value = entry.getValue();
+                switch (key) {
+                    case "name":
+                    case "implementation":
+                    case "hidden":
+                    case "required":
+                    case "type":
+                        break;
+                    case "title":
+                    case "description":
+                    case "format":
+                    case "pattern":
+                    case "comment":
+                    case "ref":
+                        schema.call(key, literal((String) value.getValue()));
+                        break;
+                    case "maxLength":
+                    case "minLength":
+                    case "maxItems":
+                    case "minItems":
+                    case "maxProperties":
+                    case "minProperties":
+                        schema.call(key, value.getValue());
+                        break;
+                    case "readOnly":
+                    case "writeOnly":
+                    case "deprecated":
+                    case "uniqueItems":
+                        schema.call(key, value.getValue());
+                        break;
+                    case "nullable":
+                        if (isTrue(value)) {
+                            schema.call("addType", SCHEMA_TYPE + ".NULL");
+                        }
+                        break;
+                    case "multipleOf":
+                        schema.call(key, decimal(BigDecimal.valueOf((Double) value.getValue()).toString()));
+                        break;
+                    case "maximum":
+                        schema.call(isTrue(values.get("exclusiveMaximum")) ? "exclusiveMaximum" : "maximum",
+                                decimal(element, mirror, value));
+                        break;
+                    case "minimum":
+                        schema.call(isTrue(values.get("exclusiveMinimum")) ? "exclusiveMinimum" : "minimum",
+                                decimal(element, mirror, value));
+                        break;
+                    case "exclusiveMaximum":
+                    case "exclusiveMinimum":
+                        if (!values.containsKey(key.equals("exclusiveMaximum") ? "maximum" : "minimum")) {
+                            unsupported(element, mirror, key, value);
+                        }
+                        break;
+                    case "requiredProperties":
+                        for (AnnotationValue property : asList(value)) {
+                            schema.call("addRequired", literal((String) property.getValue()));
+                        }
+                        break;
+                    case "enumeration":
+                        for (AnnotationValue constant : asList(value)) {
+                            schema.call("addEnumeration", typedValue(schema, element, mirror, constant));
+                        }
+                        break;
+                    case "examples":
+                        for (AnnotationValue example : asList(value)) {
+                            schema.call("addExample", typedValue(schema, element, mirror, example));
+                        }
+                        break;
+                    case "defaultValue":
+                    case "constValue":
+                        schema.call(key, typedValue(schema, element, mirror, value));
+                        break;
+                    case "externalDocs":
+                        schema.call(key, externalDocs(element, (AnnotationMirror) value.getValue()));
+                        break;
+                    case "extensions":
+                        addExtensions(schema, element, value);
+                        break;
+                    case "properties":
+                        if ("properties".equals(handled)) {
+                            break;
+                        }
+                        for (AnnotationValue property : asList(value)) {
+                            AnnotationMirror propertyMirror = (AnnotationMirror) property.getValue();
+                            Map<String, AnnotationValue> propertyValues = getValues(propertyMirror);
+                            if (isTrue(propertyValues.get("hidden"))) {
+                                continue;
+                            }
+                            String name = (String) propertyValues.get("name").getValue();
+                            schema.call("addProperty", literal(name), propertySchema(element, null, propertyMirror));
+                        }
+                        break;
+                    default:
+                        unsupported(element, mirror, key, value);
+                }
+            }
+            return schema;
+        }
+
+        private String decimal(Element element, AnnotationMirror mirror, AnnotationValue value) {
+            try {
+                return decimal(new BigDecimal((String) value.getValue()).toString());
+            } catch (NumberFormatException e) {
+                error("Invalid number " + value, element, mirror, value);
+                return "null";
+            }
+        }
+
+        private String decimal(String value) {
+            return "new java.math.BigDecimal(" + literal(value) + ")";
+        }
+
+        /**
+         * Converts a string attribute to a value of the type of a schema.
+         */
+        private String typedValue(Chain schema, Element element, AnnotationMirror mirror, AnnotationValue value) {
+            String string = (String) value.getValue();
+            if (schema.schemaType == null) {
+                error("A value of a schema without a type is not supported by the generated OASModelReader", element,
+                        mirror, value);
+                return "null";
+            }
+            switch (schema.schemaType) {
+                case "STRING":
+                    return literal(string);
+                case "INTEGER":
+                case "NUMBER":
+                    return decimal(element, mirror, value);
+                case "BOOLEAN":
+                    if (string.equals("true") || string.equals("false")) {
+                        return "Boolean." + string.toUpperCase(Locale.ROOT);
+                    }
+                    error("Invalid boolean " + value, element, mirror, value);
+                    return "null";
+                default:
+                    error("A value of a schema of type " + schema.schemaType.toLowerCase(Locale.ROOT)
+                            + " is not supported by the generated OASModelReader", element, mirror, value);
+                    return "null";
+            }
+        }
+
+        private boolean isTrue(AnnotationValue value) {
+            return value != null && Boolean.TRUE.equals(value.getValue());
+        }
+
+        private void unsupported(Element element, AnnotationMirror mirror, String attribute, AnnotationValue value) {
+            error("The attribute " + attribute + " of @" + mirror.getAnnotationType().asElement().getSimpleName()
+                    + " is not supported by the generated OASModelReader", element, mirror, value);
+        }
+
+        private void error(String message, Element element, AnnotationMirror mirror, AnnotationValue value) {
+            failed = true;
+            if (mirror == null) {
+                messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+            } else {
+                messager.printMessage(Diagnostic.Kind.ERROR, message, element, mirror, value);
+            }
+        }
+    }
+}
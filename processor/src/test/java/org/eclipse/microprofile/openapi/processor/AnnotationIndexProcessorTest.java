@@ -0,0 +1,254 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.processor;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the index written by the {@link AnnotationIndexProcessor}, by compiling small applications with the system
+ * Java compiler.
+ */
+public class AnnotationIndexProcessorTest {
+
+    private static final String PET_API = "package com.example;\n"
+            + "import jakarta.ws.rs.GET;\n"
+            + "import jakarta.ws.rs.Path;\n"
+            + "import jakarta.ws.rs.PathParam;\n"
+            + "@Path(\"/pets\")\n"
+            + "public interface PetApi {\n"
+            + "    @GET\n"
+            + "    @Path(\"{id}\")\n"
+            + "    Pet get(@PathParam(\"id\") long id);\n"
+            + "}\n";
+
+    private static final String PET_RESOURCE = "package com.example;\n"
+            + "public class PetResource implements PetApi {\n"
+            + "    public Pet get(long id) {\n"
+            + "        return new Pet();\n"
+            + "    }\n"
+            + "}\n";
+
+    private static final String PET = "package com.example;\n"
+            + "import org.eclipse.microprofile.openapi.annotations.media.Schema;\n"
+            + "@Schema(name = \"Pet\")\n"
+            + "public class Pet {\n"
+            + "    @Schema(description = \"The name\")\n"
+            + "    public String name;\n"
+            + "    public static class Tag {\n"
+            + "        @Schema(description = \"The tag\")\n"
+            + "        public String value;\n"
+            + "    }\n"
+            + "}\n";
+
+    private static final String PLAIN_PET = "package com.example;\n"
+            + "public class Pet {\n"
+            + "    public String name;\n"
+            + "}\n";
+
+    private static final String HELPER = "package com.example;\n"
+            + "public class Helper {\n"
+            + "}\n";
+
+    private static final String GATEWAY = "package com.example;\n"
+            + "import jakarta.ws.rs.Path;\n"
+            + "@Path(\"/gateway\")\n"
+            + "public abstract class Gateway {\n"
+            + "}\n";
+
+    private static final String PET_GATEWAY = "package com.example;\n"
+            + "public class PetGateway extends Gateway {\n"
+            + "}\n";
+
+    private static final String PACKAGE_INFO = "@OpenAPIDefinition(\n"
+            + "        info = @Info(title = \"Example\", version = \"1\"))\n"
+            + "package com.example;\n"
+            + "import org.eclipse.microprofile.openapi.annotations.OpenAPIDefinition;\n"
+            + "import org.eclipse.microprofile.openapi.annotations.info.Info;\n";
+
+    private static final String GET = "jakarta.ws.rs.GET";
+    private static final String PATH = "jakarta.ws.rs.Path";
+    private static final String PATH_PARAM = "jakarta.ws.rs.PathParam";
+    private static final String SCHEMA = "org.eclipse.microprofile.openapi.annotations.media.Schema";
+    private static final String DEFINITION = "org.eclipse.microprofile.openapi.annotations.OpenAPIDefinition";
+
+    private Path directory;
+
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("annotation-index");
+    }
+
+    @AfterMethod
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void testDeclaredAnnotations() throws IOException {
+        Path classes = directory.resolve("classes");
+        compile(classes, null, "com.example.Pet", PET, "com.example.Helper", HELPER,
+                "com.example.package-info", PACKAGE_INFO);
+
+        Map<String, String> index = readIndex(classes);
+        assertEquals(index.get("com.example.Pet"), SCHEMA, "Annotations of a class and its members are indexed.");
+        assertEquals(index.get("com.example.Pet$Tag"), SCHEMA, "Nested classes are indexed by binary name.");
+        assertEquals(index.get("com.example.package-info"), DEFINITION,
+                "Package annotations are indexed for package-info.");
+        assertFalse(index.containsKey("com.example.Helper"), "Classes without annotations are not indexed.");
+    }
+
+    @Test
+    public void testAnnotationsInheritedFromInterface() throws IOException {
+        Path classes = directory.resolve("classes");
+        compile(classes, null, "com.example.PetApi", PET_API, "com.example.PetResource", PET_RESOURCE,
+                "com.example.Pet", PLAIN_PET);
+
+        Map<String, String> index = readIndex(classes);
+        String expected = String.join(" ", GET, PATH, PATH_PARAM);
+        assertEquals(index.get("com.example.PetApi"), expected, "An annotated interface is indexed.");
+        assertEquals(index.get("com.example.PetResource"), expected,
+                "A class implementing an annotated interface is indexed with the annotations of the interface.");
+        assertFalse(index.containsKey("com.example.Pet"), "Classes without annotations are not indexed.");
+    }
+
+    @Test
+    public void testAnnotationsInheritedFromClassPath() throws IOException {
+        Path library = directory.resolve("library");
+        compile(library, null, "com.example.Gateway", GATEWAY);
+        Path classes = directory.resolve("classes");
+        compile(classes, library, "com.example.PetGateway", PET_GATEWAY);
+
+        Map<String, String> index = readIndex(classes);
+        assertEquals(index.get("com.example.PetGateway"), PATH,
+                "A class extending an annotated class of the class path is indexed.");
+        assertFalse(index.containsKey("com.example.Gateway"),
+                "Classes of the class path are not indexed in the output of another compilation.");
+    }
+
+    @Test
+    public void testIncrementalCompilation() throws IOException {
+        Path classes = directory.resolve("classes");
+        compile(classes, null, "com.example.PetApi", PET_API, "com.example.PetResource", PET_RESOURCE,
+                "com.example.Pet", PET);
+        Map<String, String> before = readIndex(classes);
+        assertEquals(before.size(), 4, "The index is expected to list four classes, but got " + before);
+
+        // Only the class without annotations is compiled again
+        compile(classes, classes, "com.example.PetResource", PET_RESOURCE);
+        assertEquals(readIndex(classes), before, "Compiling a class again is not expected to change the index.");
+
+        // The annotations are removed from the model class
+        compile(classes, classes, "com.example.Pet", PLAIN_PET);
+        Map<String, String> after = readIndex(classes);
+        assertFalse(after.containsKey("com.example.Pet"),
+                "A class compiled again without annotations is expected to be removed from the index.");
+        assertTrue(after.containsKey("com.example.PetApi") && after.containsKey("com.example.PetResource"),
+                "The entries of the classes which were not compiled again are expected to be kept, but got " + after);
+    }
+
+    /**
+     * Compiles the given sources with the annotation index processor.
+     *
+     * @param output
+     *            the class output directory
+     * @param classPath
+     *            a directory to add to the class path of the test, or null
+     * @param sources
+     *            pairs of binary class name and source code
+     */
+    private static void compile(Path output, Path classPath, String... sources) throws IOException {
+        Files.createDirectories(output);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<JavaFileObject> units = new ArrayList<>();
+        for (int i = 0; i < sources.length; i += 2) {
+            String source = sources[i + 1];
+            units.add(new SimpleJavaFileObject(URI.create("string:///" + sources[i].replace('.', '/')
+                    + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return source;
+                }
+            });
+        }
+        String path = System.getProperty("java.class.path");
+        if (classPath != null) {
+            path = classPath + File.pathSeparator + path;
+        }
+        List<String> options = List.of("--release", "11", "-d", output.toString(), "-classpath", path);
+        try (StandardJavaFileManager fileManager =
+                compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, units);
+            task.setProcessors(List.of(new AnnotationIndexProcessor()));
+            if (!task.call()) {
+                StringBuilder message = new StringBuilder("Compilation failed:");
+                for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                    message.append('\n').append(diagnostic);
+                }
+                throw new AssertionError(message.toString());
+            }
+        }
+    }
+
+    /**
+     * Reads the index of a class output directory.
+     *
+     * @return the annotation names of each line, separated by spaces, by class name
+     */
+    private static Map<String, String> readIndex(Path output) throws IOException {
+        Map<String, String> index = new TreeMap<>();
+        Path file = output.resolve(AnnotationIndexProcessor.INDEX_LOCATION);
+        if (Files.exists(file)) {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                int space = line.indexOf(' ');
+                if (space > 0 && !line.startsWith("#")) {
+                    index.put(line.substring(0, space), line.substring(space + 1));
+                }
+            }
+        }
+        return index;
+    }
+}
@@ -0,0 +1,243 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.processor;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the OASModelReader generated by the {@link ModelReaderProcessor} and the errors it reports, by compiling small
+ * applications with the system Java compiler.
+ */
+public class ModelReaderProcessorTest {
+
+    private static final String READER = "com.example.GeneratedModelReader";
+
+    private static final String DEFINITION = "package com.example;\n"
+            + "import org.eclipse.microprofile.openapi.annotations.Components;\n"
+            + "import org.eclipse.microprofile.openapi.annotations.OpenAPIDefinition;\n"
+            + "import org.eclipse.microprofile.openapi.annotations.info.Info;\n"
+            + "import org.eclipse.microprofile.openapi.annotations.media.Schema;\n"
+            + "@OpenAPIDefinition(info = @Info(title = \"Pets\", version = \"1.0\"),\n"
+            + "        components = @Components(schemas = @Schema(name = \"Pet\", implementation = Pet.class)))\n"
+            + "public class PetApplication {\n"
+            + "}\n";
+
+    private static final String OTHER_DEFINITION = "package com.example;\n"
+            + "import org.eclipse.microprofile.openapi.annotations.OpenAPIDefinition;\n"
+            + "import org.eclipse.microprofile.openapi.annotations.info.Info;\n"
+            + "@OpenAPIDefinition(info = @Info(title = \"Other\", version = \"1.0\"))\n"
+            + "public class OtherApplication {\n"
+            + "}\n";
+
+    private static final String PET = "package com.example;\n"
+            + "import org.eclipse.microprofile.openapi.annotations.media.Schema;\n"
+            + "public class Pet {\n"
+            + "    @Schema(description = \"The name\", minLength = 1)\n"
+            + "    public String name;\n"
+            + "    @Schema(minimum = \"0\")\n"
+            + "    public int age;\n"
+            + "    @Schema(defaultValue = \"true\")\n"
+            + "    public boolean vaccinated;\n"
+            + "    public static int count;\n"
+            + "}\n";
+
+    private static final String PET_WITH_UNSUPPORTED_ATTRIBUTE = "package com.example;\n"
+            + "import org.eclipse.microprofile.openapi.annotations.media.Schema;\n"
+            + "public class Pet {\n"
+            + "    @Schema(oneOf = {String.class, Integer.class})\n"
+            + "    public Object name;\n"
+            + "}\n";
+
+    private static final String PET_WITH_TYPE_VARIABLE = "package com.example;\n"
+            + "public class Pet<T> {\n"
+            + "    public T tag;\n"
+            + "}\n";
+
+    private static final String PET_WITH_INVALID_NUMBER = "package com.example;\n"
+            + "import org.eclipse.microprofile.openapi.annotations.media.Schema;\n"
+            + "public class Pet {\n"
+            + "    @Schema(minimum = \"zero\")\n"
+            + "    public int age;\n"
+            + "}\n";
+
+    private static final String PET_WITH_INVALID_BOOLEAN = "package com.example;\n"
+            + "import org.eclipse.microprofile.openapi.annotations.media.Schema;\n"
+            + "public class Pet {\n"
+            + "    @Schema(defaultValue = \"yes\")\n"
+            + "    public boolean vaccinated;\n"
+            + "}\n";
+
+    private Path directory;
+
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("model-reader");
+    }
+
+    @AfterMethod
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void testGeneratedReader() throws IOException {
+        Compilation compilation = compile("com.example.PetApplication", DEFINITION, "com.example.Pet", PET);
+        assertTrue(compilation.success, "The compilation is expected to succeed, but got " + compilation.messages);
+        assertTrue(Files.exists(compilation.classes.resolve("com/example/GeneratedModelReader.class")),
+                "The generated reader is expected to be compiled.");
+
+        String source = compilation.source();
+        assertTrue(source.contains("\"Pets\"") && source.contains("\"1.0\""),
+                "The info of the @OpenAPIDefinition is expected to be generated.");
+        assertTrue(source.contains("\"Pet\"") && source.contains("\"vaccinated\""),
+                "The schema of the implementation class is expected to be generated.");
+        assertFalse(source.contains("\"count\""), "Static fields are not expected to be generated as properties.");
+        assertTrue(source.contains("Boolean.TRUE"), "The default value of a boolean is expected to be a Boolean.");
+    }
+
+    @Test
+    public void testUnsupportedAttribute() throws IOException {
+        Compilation compilation = compile("com.example.PetApplication", DEFINITION, "com.example.Pet",
+                PET_WITH_UNSUPPORTED_ATTRIBUTE);
+        assertError(compilation, "The attribute oneOf of @Schema is not supported by the generated OASModelReader");
+    }
+
+    @Test
+    public void testUnsupportedType() throws IOException {
+        Compilation compilation = compile("com.example.PetApplication", DEFINITION, "com.example.Pet",
+                PET_WITH_TYPE_VARIABLE);
+        assertError(compilation, "The type T is not supported by the generated OASModelReader");
+    }
+
+    @Test
+    public void testDuplicateDefinition() throws IOException {
+        Compilation compilation = compile("com.example.PetApplication", DEFINITION, "com.example.OtherApplication",
+                OTHER_DEFINITION, "com.example.Pet", PET);
+        assertError(compilation, "Only one @OpenAPIDefinition is supported in package com.example");
+    }
+
+    @Test
+    public void testInvalidNumber() throws IOException {
+        Compilation compilation = compile("com.example.PetApplication", DEFINITION, "com.example.Pet",
+                PET_WITH_INVALID_NUMBER);
+        assertError(compilation, "Invalid number \"zero\"");
+    }
+
+    @Test
+    public void testInvalidBoolean() throws IOException {
+        Compilation compilation = compile("com.example.PetApplication", DEFINITION, "com.example.Pet",
+                PET_WITH_INVALID_BOOLEAN);
+        assertError(compilation, "Invalid boolean \"yes\"");
+    }
+
+    @Test
+    public void testWithoutDefinition() throws IOException {
+        // An incremental compilation of a model class
+        Compilation compilation = compile("com.example.Pet", PET);
+        assertTrue(compilation.success, "The compilation is expected to succeed, but got " + compilation.messages);
+        assertFalse(Files.exists(compilation.sources.resolve("com/example/GeneratedModelReader.java")),
+                "No reader is expected to be generated without an @OpenAPIDefinition.");
+        assertTrue(compilation.messages.stream().anyMatch(m -> m.startsWith("WARNING")
+                && m.contains("No class or package annotated with @OpenAPIDefinition")),
+                "A warning is expected when no @OpenAPIDefinition is compiled, but got " + compilation.messages);
+    }
+
+    private static void assertError(Compilation compilation, String message) {
+        assertFalse(compilation.success, "The compilation is expected to fail with: " + message);
+        assertTrue(compilation.messages.stream().anyMatch(m -> m.startsWith("ERROR") && m.contains(message)),
+                "The compilation is expected to fail with: " + message + ", but got " + compilation.messages);
+        assertFalse(Files.exists(compilation.sources.resolve("com/example/GeneratedModelReader.java")),
+                "No reader is expected to be generated when an error is reported.");
+    }
+
+    /**
+     * Compiles the given sources with the model reader processor, which generates {@value #READER}.
+     *
+     * @param sources
+     *            pairs of binary class name and source code
+     */
+    private Compilation compile(String... sources) throws IOException {
+        Compilation compilation = new Compilation();
+        compilation.classes = Files.createDirectories(directory.resolve("classes"));
+        compilation.sources = Files.createDirectories(directory.resolve("sources"));
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<JavaFileObject> units = new ArrayList<>();
+        for (int i = 0; i < sources.length; i += 2) {
+            String source = sources[i + 1];
+            units.add(new SimpleJavaFileObject(URI.create("string:///" + sources[i].replace('.', '/')
+                    + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return source;
+                }
+            });
+        }
+        List<String> options = List.of("--release", "11", "-d", compilation.classes.toString(),
+                "-s", compilation.sources.toString(), "-classpath", System.getProperty("java.class.path"),
+                "-A" + ModelReaderProcessor.READER_OPTION + "=" + READER);
+        try (StandardJavaFileManager fileManager =
+                compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, units);
+            task.setProcessors(List.of(new ModelReaderProcessor()));
+            compilation.success = task.call();
+        }
+        compilation.messages = diagnostics.getDiagnostics().stream()
+                .map(d -> d.getKind() + " " + d.getMessage(Locale.ROOT))
+                .collect(Collectors.toList());
+        return compilation;
+    }
+
+    private static final class Compilation {
+
+        private boolean success;
+        private List<String> messages;
+        private Path classes;
+        private Path sources;
+
+        String source() throws IOException {
+            return Files.readString(sources.resolve(READER.replace('.', '/') + ".java"), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -16,10 +16,26 @@
 
 package org.eclipse.microprofile.openapi.spi;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
+import org.eclipse.microprofile.openapi.ModelInterner;
+import org.eclipse.microprofile.openapi.OpenAPIWriter;
+import org.eclipse.microprofile.openapi.SnapshotGenerator;
+import org.eclipse.microprofile.openapi.StaticDocumentReader;
 import org.eclipse.microprofile.openapi.models.Constructible;
 
 /**
@@ -36,6 +52,24 @@ public abstract class OASFactoryResolver {
 
     private static volatile OASFactoryResolver instance = null;
 
+    private static final ConcurrentMap<Object, Supplier<OASFactoryResolver>> resolvers = new ConcurrentHashMap<>();
+
+    private static final ReferenceQueue<ClassLoader> releasedLoaders = new ReferenceQueue<>();
+
+    private static final Set<ClassLoader> loadersWithoutResolver =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private static volatile Reference<OASFactoryResolver> lastResolved = new WeakReference<>(null);
+
+    private static final ClassValue<Set<OASFactoryResolver>> anchors = new ClassValue<Set<OASFactoryResolver>>() {
+        @Override
+        protected Set<OASFactoryResolver> computeValue(Class<?> type) {
+            return ConcurrentHashMap.newKeySet();
+        }
+    };
+
+    private final ConcurrentMap<Class<?>, Supplier<?>> suppliers = new ConcurrentHashMap<>();
+
     /**
      * Create a new instance of a constructible element from the OpenAPI model tree.
      *
@@ -53,40 +87,324 @@ public abstract class OASFactoryResolver {
      */
     public abstract <T extends Constructible> T createObject(Class<T> clazz);
 
+    /**
+     * Create a new instance of a constructible element from the OpenAPI model tree, sized for the given number of
+     * entries.
+     * <p>
+     * The expected size is a hint for models which hold a map of child elements: the number of path items of a
+     * {@code Paths} or {@code Callback}, the number of responses of an {@code APIResponses}, the number of media types
+     * of a {@code Content} and the number of schemas of a {@code Components}. It is ignored for other models and does
+     * not limit the number of entries which can be added. The default implementation ignores the hint.
+     *
+     * @param <T>
+     *            describes the type parameter
+     * @param clazz
+     *            represents a model which extends the org.eclipse.microprofile.openapi.models.Constructible interface
+     * @param expectedSize
+     *            the expected number of entries
+     *
+     * @return a new instance of the requested model class
+     *
+     * @throws NullPointerException
+     *             if the specified class is null
+     * @throws IllegalArgumentException
+     *             if an instance could not be created, most likely, due to an illegal or inappropriate class, or if
+     *             the expected size is negative
+     * @since 4.1
+     */
+    public <T extends Constructible> T createObject(Class<T> clazz, int expectedSize) {
+        Supplier<T> supplier = getSupplier(clazz);
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+        }
+        return supplier.get();
+    }
+
+    /**
+     * Create the given number of new instances of a constructible element from the OpenAPI model tree.
+     * <p>
+     * Each element of the returned list is a distinct instance which behaves exactly like an instance returned by
+     * {@link #createObject(Class)}. The returned list is modifiable and owned by the caller. The default implementation
+     * uses the supplier returned by {@link #getSupplier(Class)}.
+     *
+     * @param <T>
+     *            describes the type parameter
+     * @param clazz
+     *            represents a model which extends the org.eclipse.microprofile.openapi.models.Constructible interface
+     * @param count
+     *            the number of instances to create
+     *
+     * @return a list containing {@code count} new instances of the requested model class
+     *
+     * @throws NullPointerException
+     *             if the specified class is null
+     * @throws IllegalArgumentException
+     *             if the instances could not be created, most likely, due to an illegal or inappropriate class, or if
+     *             the count is negative
+     * @since 4.1
+     */
+    public <T extends Constructible> List<T> createObjects(Class<T> clazz, int count) {
+        Supplier<T> supplier = getSupplier(clazz);
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(supplier.get());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a supplier of new instances of a constructible element from the OpenAPI model tree.
+     * <p>
+     * The supplier for a given class is created once per resolver, using {@link #createSupplier(Class)}, and the same
+     * supplier instance is returned by subsequent calls. Each invocation of {@link Supplier#get()} on the returned
+     * supplier must return a new instance of the requested model class.
+     *
+     * @param <T>
+     *            describes the type parameter
+     * @param clazz
+     *            represents a model which extends the org.eclipse.microprofile.openapi.models.Constructible interface
+     *
+     * @return a supplier of new instances of the requested model class
+     *
+     * @throws NullPointerException
+     *             if the specified class is null
+     * @throws IllegalArgumentException
+     *             if instances of the class cannot be supplied, most likely, due to an illegal or inappropriate class.
+     *             Implementations may instead throw this exception when {@link Supplier#get()} is called.
+     * @since 4.1
+     */
+    public <T extends Constructible> Supplier<T> getSupplier(Class<T> clazz) {
+        Supplier<?> supplier = suppliers.get(clazz);
+        if (supplier == null) {
+            Supplier<T> newSupplier = createSupplier(clazz);
+            supplier = suppliers.putIfAbsent(clazz, newSupplier);
+            if (supplier == null) {
+                supplier = newSupplier;
+            }
+        }
+        @SuppressWarnings("unchecked")
+        Supplier<T> result = (Supplier<T>) supplier;
+        return result;
+    }
+
+    /**
+     * Creates the supplier returned by {@link #getSupplier(Class)} for the given class. This method is called at most
+     * once per class unless concurrent calls race, in which case only one of the created suppliers is retained.
+     * <p>
+     * The default implementation delegates to {@link #createObject(Class)} on each invocation. Implementations are
+     * encouraged to override this method to resolve the implementation class once and return a supplier that
+     * instantiates it directly, for example a constructor reference.
+     *
+     * @param <T>
+     *            describes the type parameter
+     * @param clazz
+     *            represents a model which extends the org.eclipse.microprofile.openapi.models.Constructible interface
+     *
+     * @return a supplier of new instances of the requested model class
+     *
+     * @throws IllegalArgumentException
+     *             if instances of the class cannot be supplied, most likely, due to an illegal or inappropriate class
+     * @since 4.1
+     */
+    protected <T extends Constructible> Supplier<T> createSupplier(Class<T> clazz) {
+        return () -> createObject(clazz);
+    }
+
+    /**
+     * Creates a writer which serializes OpenAPI models directly to a stream. Only used internally from within
+     * {@link org.eclipse.microprofile.openapi.OASFactory}
+     * <p>
+     * The default implementation throws an {@link UnsupportedOperationException}. Implementations are expected to
+     * override this method. As writers are thread safe, implementations may return the same writer on each invocation.
+     *
+     * @return a writer for OpenAPI models
+     *
+     * @throws UnsupportedOperationException
+     *             if the implementation does not provide a writer
+     * @since 4.1
+     */
+    public OpenAPIWriter createWriter() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not provide an OpenAPIWriter");
+    }
+
+    /**
+     * Creates a reader which builds OpenAPI models directly from a stream. Only used internally from within
+     * {@link org.eclipse.microprofile.openapi.OASFactory}
+     * <p>
+     * The default implementation throws an {@link UnsupportedOperationException}. Implementations are expected to
+     * override this method. As readers are thread safe, implementations may return the same reader on each invocation.
+     *
+     * @return a reader for OpenAPI documents
+     *
+     * @throws UnsupportedOperationException
+     *             if the implementation does not provide a reader
+     * @since 4.1
+     */
+    public StaticDocumentReader createDocumentReader() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not provide a StaticDocumentReader");
+    }
+
+    /**
+     * Creates a generator of build time snapshots of the OpenAPI document. Only used internally from within
+     * {@link org.eclipse.microprofile.openapi.OASFactory}
+     * <p>
+     * The default implementation throws an {@link UnsupportedOperationException}. Implementations are expected to
+     * override this method.
+     *
+     * @return a snapshot generator
+     *
+     * @throws UnsupportedOperationException
+     *             if the implementation does not provide a snapshot generator
+     * @since 4.1
+     */
+    public SnapshotGenerator createSnapshotGenerator() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not provide a SnapshotGenerator");
+    }
+
+    /**
+     * Creates an interner of model objects. Only used internally from within
+     * {@link org.eclipse.microprofile.openapi.OASFactory}
+     * <p>
+     * The default implementation throws an {@link UnsupportedOperationException}. Implementations are expected to
+     * override this method.
+     *
+     * @return a new model interner
+     *
+     * @throws UnsupportedOperationException
+     *             if the implementation does not provide a model interner
+     * @since 4.1
+     */
+    public ModelInterner createModelInterner() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not provide a ModelInterner");
+    }
+
     /**
      * Creates an OASFactoryResolver object. Only used internally from within
      * {@link org.eclipse.microprofile.openapi.OASFactory}
+     * <p>
+     * If an instance has been set with {@link #setInstance(OASFactoryResolver)}, that instance is returned. Otherwise,
+     * the resolver is looked up for the thread context class loader, so that each application in a multi-application
+     * runtime uses the resolver visible to it. Resolvers provided by a parent class loader take precedence over those
+     * provided by a child class loader.
+     * <p>
+     * Threads whose context class loader cannot see an implementation, such as the workers of the common
+     * {@link java.util.concurrent.ForkJoinPool}, fall back to the resolver visible to the class loader of this class,
+     * and then to the resolver most recently returned for another class loader.
+     * <p>
+     * The result is cached per class loader. The cache does not keep a class loader reachable: a resolver whose class is
+     * defined by the class loader, or by a class loader which is not one of its ancestors, is only held strongly by its
+     * own class. Once the class loader has been garbage collected, its cache entry is removed by the next call to this
+     * method or to {@link #setInstance(ClassLoader, OASFactoryResolver)}.
      *
      * @return an instance of OASFactoryResolver
      */
     public static OASFactoryResolver instance() {
-        if (instance == null) {
-            synchronized (OASFactoryResolver.class) {
-                if (instance != null) {
-                    return instance;
-                }
+        expungeStaleEntries();
 
-                ClassLoader cl = AccessController.doPrivileged(new PrivilegedAction<ClassLoader>() {
-                    @Override
-                    public ClassLoader run() {
-                        return Thread.currentThread().getContextClassLoader();
-                    }
-                });
-                if (cl == null) {
-                    cl = OASFactoryResolver.class.getClassLoader();
-                }
+        OASFactoryResolver resolver = instance;
+        if (resolver != null) {
+            return resolver;
+        }
 
-                OASFactoryResolver newInstance = loadSpi(cl);
+        ClassLoader cl = AccessController.doPrivileged(new PrivilegedAction<ClassLoader>() {
+            @Override
+            public ClassLoader run() {
+                return Thread.currentThread().getContextClassLoader();
+            }
+        });
+        if (cl == null) {
+            cl = OASFactoryResolver.class.getClassLoader();
+        }
+        if (cl == null) {
+            throw new IllegalStateException("No OASFactoryResolver implementation found!");
+        }
 
-                if (newInstance == null) {
-                    throw new IllegalStateException("No OASFactoryResolver implementation found!");
-                }
+        resolver = lookup(cl);
+        if (resolver == null) {
+            ClassLoader own = OASFactoryResolver.class.getClassLoader();
+            if (own != null && own != cl) {
+                resolver = lookup(own);
+            }
+        }
+        if (resolver == null) {
+            resolver = lastResolved.get();
+        }
+        if (resolver == null) {
+            throw new IllegalStateException("No OASFactoryResolver implementation found!");
+        }
+        return resolver;
+    }
 
-                instance = newInstance;
+    private static OASFactoryResolver lookup(ClassLoader cl) {
+        OASFactoryResolver resolver = null;
+        Supplier<OASFactoryResolver> registered = resolvers.get(new LookupKey(cl));
+        if (registered != null) {
+            resolver = registered.get();
+        }
+        if (resolver == null && !loadersWithoutResolver.contains(cl)) {
+            OASFactoryResolver newInstance = loadSpi(cl);
+            if (newInstance == null) {
+                // The service loader is not asked again for a class loader which has no implementation
+                loadersWithoutResolver.add(cl);
+            } else {
+                resolver = register(cl, newInstance);
             }
         }
+        if (resolver != null && lastResolved.get() != resolver) {
+            lastResolved = new WeakReference<>(resolver);
+        }
+        return resolver;
+    }
 
-        return instance;
+    private static OASFactoryResolver register(ClassLoader cl, OASFactoryResolver resolver) {
+        expungeStaleEntries();
+
+        LoaderKey key = new LoaderKey(cl);
+        Supplier<OASFactoryResolver> holder = holder(cl, resolver);
+        Supplier<OASFactoryResolver> existing = resolvers.putIfAbsent(key, holder);
+        if (existing != null) {
+            OASFactoryResolver existingResolver = existing.get();
+            if (existingResolver != null) {
+                release(holder);
+                return existingResolver;
+            }
+            resolvers.put(key, holder);
+        }
+        return resolver;
+    }
+
+    private static Supplier<OASFactoryResolver> holder(ClassLoader cl, OASFactoryResolver resolver) {
+        Class<?> type = resolver.getClass();
+        if (isAncestor(type.getClassLoader(), cl)) {
+            return () -> resolver;
+        }
+        // Holding the resolver strongly would keep the class loader reachable through the registry. The resolver is
+        // held strongly by its own class instead, which is released together with the class loader.
+        anchors.get(type).add(resolver);
+        WeakReference<OASFactoryResolver> ref = new WeakReference<>(resolver);
+        return ref::get;
+    }
+
+    private static boolean isAncestor(ClassLoader candidate, ClassLoader cl) {
+        if (candidate == null) {
+            return true;
+        }
+        for (ClassLoader parent = cl.getParent(); parent != null; parent = parent.getParent()) {
+            if (parent == candidate) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void expungeStaleEntries() {
+        Reference<? extends ClassLoader> stale;
+        while ((stale = releasedLoaders.poll()) != null) {
+            resolvers.remove(stale);
+        }
     }
 
     private static OASFactoryResolver loadSpi(ClassLoader cl) {
@@ -113,6 +431,9 @@ public abstract class OASFactoryResolver {
 
     /**
      * Set the instance. It is used by OSGi environment while service loader pattern is not supported.
+     * <p>
+     * An instance set with this method is returned by {@link #instance()} regardless of the thread context class
+     * loader. Passing {@code null} restores the lookup by class loader.
      *
      * @param factory
      *            set the instance.
@@ -120,4 +441,112 @@ public abstract class OASFactoryResolver {
     public static void setInstance(OASFactoryResolver factory) {
         instance = factory;
     }
+
+    /**
+     * Set the instance used when the given class loader is the thread context class loader. This allows runtimes which
+     * host several applications to register a resolver for each application without relying on the service loader.
+     * <p>
+     * The registration does not keep the class loader reachable. A factory whose class is defined by an ancestor of the
+     * class loader is held strongly, and any other factory is held strongly only by its own class, until the
+     * registration is removed or the class loader is garbage collected. A factory whose class is defined by an ancestor
+     * of the class loader but which itself refers to the class loader does keep it reachable, so runtimes should remove
+     * the registration when the application is stopped by passing {@code null} as the factory.
+     *
+     * @param classLoader
+     *            the class loader of the application
+     * @param factory
+     *            the instance to use for the class loader, or {@code null} to remove the registration
+     *
+     * @throws NullPointerException
+     *             if the specified class loader is null
+     * @since 4.1
+     */
+    public static void setInstance(ClassLoader classLoader, OASFactoryResolver factory) {
+        Objects.requireNonNull(classLoader, "classLoader");
+        expungeStaleEntries();
+        Supplier<OASFactoryResolver> previous;
+        if (factory == null) {
+            previous = resolvers.remove(new LookupKey(classLoader));
+        } else {
+            previous = resolvers.put(new LoaderKey(classLoader), holder(classLoader, factory));
+        }
+        release(previous);
+    }
+
+    private static void release(Supplier<OASFactoryResolver> holder) {
+        OASFactoryResolver resolver = holder == null ? null : holder.get();
+        if (resolver == null) {
+            return;
+        }
+        for (Supplier<OASFactoryResolver> other : resolvers.values()) {
+            if (other.get() == resolver) {
+                return;
+            }
+        }
+        anchors.get(resolver.getClass()).remove(resolver);
+    }
+
+    /**
+     * Key of the resolver registry, holding the class loader weakly.
+     */
+    private static final class LoaderKey extends WeakReference<ClassLoader> {
+
+        private final int hash;
+
+        LoaderKey(ClassLoader cl) {
+            super(cl, releasedLoaders);
+            this.hash = System.identityHashCode(cl);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            ClassLoader cl = get();
+            if (cl == null) {
+                return false;
+            }
+            if (obj instanceof LoaderKey) {
+                return cl == ((LoaderKey) obj).get();
+            }
+            if (obj instanceof LookupKey) {
+                return cl == ((LookupKey) obj).cl;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Key used to query the resolver registry, avoiding the creation of a weak reference on each lookup.
+     */
+    private static final class LookupKey {
+
+        private final ClassLoader cl;
+
+        LookupKey(ClassLoader cl) {
+            this.cl = cl;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(cl);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof LookupKey) {
+                return cl == ((LookupKey) obj).cl;
+            }
+            if (obj instanceof LoaderKey) {
+                return cl == ((LoaderKey) obj).get();
+            }
+            return false;
+        }
+    }
 }
@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.apps.budget;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+import org.eclipse.microprofile.openapi.annotations.Operation;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("/budget")
+public class HeapResource {
+
+    private static final int GC_CYCLES = 3;
+
+    /**
+     * Runs the garbage collector and returns the number of bytes of heap used afterwards, as reported by the
+     * MemoryMXBean of the server.
+     */
+    @GET
+    @Path("/heap")
+    @Produces(MediaType.TEXT_PLAIN)
+    @Operation(hidden = true)
+    public String getUsedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < GC_CYCLES; i++) {
+            memory.gc();
+        }
+        return String.valueOf(memory.getHeapMemoryUsage().getUsed());
+    }
+}
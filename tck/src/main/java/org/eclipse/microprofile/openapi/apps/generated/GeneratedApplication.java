@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.apps.generated;
+
+import org.eclipse.microprofile.openapi.annotations.Components;
+import org.eclipse.microprofile.openapi.annotations.ExternalDocumentation;
+import org.eclipse.microprofile.openapi.annotations.OpenAPIDefinition;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.info.Contact;
+import org.eclipse.microprofile.openapi.annotations.info.Info;
+import org.eclipse.microprofile.openapi.annotations.info.License;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.media.SchemaProperty;
+import org.eclipse.microprofile.openapi.annotations.servers.Server;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.eclipse.microprofile.openapi.apps.generated.model.Flight;
+
+import jakarta.ws.rs.ApplicationPath;
+import jakarta.ws.rs.core.Application;
+
+@ApplicationPath("/")
+@OpenAPIDefinition(info = @Info(title = "Flight Schedule", version = "1.0", description = "Flight schedule API",
+                                contact = @Contact(name = "Flight Schedule Support", email = "support@example.com"),
+                                license = @License(name = "Apache 2.0", identifier = "Apache-2.0")),
+                   tags = @Tag(name = "flights", description = "Scheduled flights"),
+                   servers = @Server(url = "https://example.com/schedule", description = "Production server"),
+                   externalDocs = @ExternalDocumentation(url = "https://example.com/docs",
+                                                         description = "Flight schedule documentation"),
+                   components = @Components(schemas = {
+                           @Schema(name = "Flight", implementation = Flight.class),
+                           @Schema(name = "Price", type = SchemaType.OBJECT, requiredProperties = "amount",
+                                   properties = {
+                                           @SchemaProperty(name = "amount", type = SchemaType.NUMBER, minimum = "0",
+                                                           exclusiveMinimum = true),
+                                           @SchemaProperty(name = "currency", type = SchemaType.STRING,
+                                                           enumeration = {"EUR", "USD"}, defaultValue = "EUR")
+                                   })
+                   }))
+public class GeneratedApplication extends Application {
+
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.apps.generated.model;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+@Schema(description = "A scheduled flight")
+public class Flight {
+
+    @Schema(required = true, pattern = "[A-Z0-9]{2}[0-9]{1,4}")
+    private String number;
+
+    @Schema(minimum = "1", maximum = "900")
+    private int seats;
+
+    private OffsetDateTime departure;
+
+    private Airport origin;
+
+    private List<Airport> stops;
+
+    private FlightStatus status;
+
+    @Schema(hidden = true)
+    private String internalNote;
+
+    public String getNumber() {
+        return number;
+    }
+
+    public void setNumber(String number) {
+        this.number = number;
+    }
+
+    public int getSeats() {
+        return seats;
+    }
+
+    public void setSeats(int seats) {
+        this.seats = seats;
+    }
+
+    public OffsetDateTime getDeparture() {
+        return departure;
+    }
+
+    public void setDeparture(OffsetDateTime departure) {
+        this.departure = departure;
+    }
+
+    public Airport getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(Airport origin) {
+        this.origin = origin;
+    }
+
+    public List<Airport> getStops() {
+        return stops;
+    }
+
+    public void setStops(List<Airport> stops) {
+        this.stops = stops;
+    }
+
+    public FlightStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(FlightStatus status) {
+        this.status = status;
+    }
+
+    public String getInternalNote() {
+        return internalNote;
+    }
+
+    public void setInternalNote(String internalNote) {
+        this.internalNote = internalNote;
+    }
+}
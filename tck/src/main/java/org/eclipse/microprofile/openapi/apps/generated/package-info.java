@@ -0,0 +1,23 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * An application whose OpenAPIDefinition and schemas are processed at build time by the MicroProfile OpenAPI
+ * annotation processor into the generated OASModelReader
+ * <code>org.eclipse.microprofile.openapi.apps.generated.GeneratedModelReader</code>.
+ */
+@org.osgi.annotation.versioning.Version("1.0")
+package org.eclipse.microprofile.openapi.apps.generated;
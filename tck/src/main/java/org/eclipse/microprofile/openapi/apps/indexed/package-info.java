@@ -0,0 +1,22 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * A resource which inherits its Jakarta REST and MicroProfile OpenAPI annotations from an interface, added to the
+ * application deployed by the annotation index tests.
+ */
+@org.osgi.annotation.versioning.Version("1.0")
+package org.eclipse.microprofile.openapi.apps.indexed;
@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.apps.snapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.eclipse.microprofile.openapi.DocumentFormat;
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.SnapshotGenerator;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+
+@Path("/snapshot")
+public class SnapshotResource {
+
+    @GET
+    @Operation(hidden = true)
+    public Response getSnapshot(@QueryParam("format") DocumentFormat format) throws IOException {
+        OpenAPI openAPI = OASFactory.createSnapshotGenerator().process(Thread.currentThread().getContextClassLoader());
+        StreamingOutput output = out -> OASFactory.createWriter().write(openAPI, format, out);
+        String type = format == DocumentFormat.JSON ? MediaType.APPLICATION_JSON : "application/yaml";
+        return Response.ok(output, type).build();
+    }
+
+    @GET
+    @Path("/generate")
+    @Produces(MediaType.TEXT_PLAIN)
+    @Operation(hidden = true)
+    public String generate() throws IOException {
+        java.nio.file.Path directory = Files.createTempDirectory("snapshot");
+        try {
+            OASFactory.createSnapshotGenerator().generate(Thread.currentThread().getContextClassLoader(), directory);
+            java.nio.file.Path snapshot = directory.resolve(SnapshotGenerator.SNAPSHOT_LOCATION);
+            try (Stream<java.nio.file.Path> files = Files.walk(snapshot)) {
+                return String.valueOf(files.anyMatch(Files::isRegularFile));
+            }
+        } finally {
+            try (Stream<java.nio.file.Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).map(java.nio.file.Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @GET
+    @Path("/ping")
+    @Produces(MediaType.TEXT_PLAIN)
+    @Operation(summary = "Checks that the application is running", operationId = "ping")
+    public String ping() {
+        return "pong";
+    }
+}
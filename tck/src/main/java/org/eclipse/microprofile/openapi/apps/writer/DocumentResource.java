@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.apps.writer;
+
+import org.eclipse.microprofile.openapi.DocumentFormat;
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.reader.MyOASModelReaderImpl;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+
+@Path("/document")
+public class DocumentResource {
+
+    @GET
+    public Response getDocument(@QueryParam("format") DocumentFormat format) {
+        OpenAPI openAPI = new MyOASModelReaderImpl().buildModel();
+        StreamingOutput output = out -> OASFactory.createWriter().write(openAPI, format, out);
+        String type = format == DocumentFormat.JSON ? MediaType.APPLICATION_JSON : "application/yaml";
+        return Response.ok(output, type).build();
+    }
+}
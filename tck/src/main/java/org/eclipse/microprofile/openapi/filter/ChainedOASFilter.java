@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+
+/**
+ * A filter which records the order in which it is called, used to test a chain of filters configured with
+ * mp.openapi.filter.
+ * <p>
+ * Each call for the getBookingById operation, its path item and the document is appended to the x-filter-calls
+ * extension of the operation. The operation ids this filter has been called for are added to the document as the
+ * x-&lt;name&gt;-operations extension.
+ */
+public abstract class ChainedOASFilter implements OASFilter {
+
+    private static final String CALLS_EXTENSION = "x-filter-calls";
+    private static final String RECORDED_OPERATION = "getBookingById";
+
+    private final String name;
+    private final List<String> operationIds = new ArrayList<>();
+
+    protected ChainedOASFilter(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public PathItem filterPathItem(PathItem pathItem) {
+        Operation get = pathItem.getGET();
+        if (get != null && RECORDED_OPERATION.equals(get.getOperationId())) {
+            recordCall(get, "pathItem");
+        }
+        return pathItem;
+    }
+
+    @Override
+    public Operation filterOperation(Operation operation) {
+        operationIds.add(operation.getOperationId());
+        if (RECORDED_OPERATION.equals(operation.getOperationId())) {
+            recordCall(operation, "operation");
+        }
+        return operation;
+    }
+
+    @Override
+    public void filterOpenAPI(OpenAPI openAPI) {
+        recordCall(openAPI.getPaths().getPathItem("/bookings/{id}").getGET(), "openAPI");
+        openAPI.addExtension("x-" + name + "-operations", new ArrayList<>(operationIds));
+    }
+
+    private void recordCall(Operation operation, String method) {
+        Map<String, Object> extensions = operation.getExtensions();
+        Object calls = extensions == null ? null : extensions.get(CALLS_EXTENSION);
+        String call = name + "-" + method;
+        operation.addExtension(CALLS_EXTENSION, calls == null ? call : calls + "," + call);
+    }
+}
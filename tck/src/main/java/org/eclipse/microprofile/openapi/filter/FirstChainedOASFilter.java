@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.filter;
+
+import org.eclipse.microprofile.openapi.models.Operation;
+
+/**
+ * The first filter of the chain, which also removes the deleteBookingById operation. Filters later in the chain must
+ * not be called for it.
+ */
+public class FirstChainedOASFilter extends ChainedOASFilter {
+
+    public FirstChainedOASFilter() {
+        super("first");
+    }
+
+    @Override
+    public Operation filterOperation(Operation operation) {
+        super.filterOperation(operation);
+        return "deleteBookingById".equals(operation.getOperationId()) ? null : operation;
+    }
+}
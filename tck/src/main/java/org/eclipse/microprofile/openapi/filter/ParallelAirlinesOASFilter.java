@@ -0,0 +1,27 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.filter;
+
+import org.eclipse.microprofile.openapi.ThreadSafeOASFilter;
+
+/**
+ * The airlines filter, declared safe for parallel filtering. The filter methods of AirlinesOASFilter only modify the
+ * element they are called for, so they can be called concurrently.
+ */
+public class ParallelAirlinesOASFilter extends AirlinesOASFilter implements ThreadSafeOASFilter {
+
+}
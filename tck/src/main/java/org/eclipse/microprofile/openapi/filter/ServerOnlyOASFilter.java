@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.filter;
+
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.Constructible;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+
+/**
+ * A filter which declares that it only filters servers, and moves every server to the host filtered.example.com. The
+ * servers nested in path items, operations, callbacks and links must still be passed to it.
+ */
+public class ServerOnlyOASFilter implements OASFilter {
+
+    @Override
+    public Set<Class<? extends Constructible>> filteredTypes() {
+        return Set.of(Server.class);
+    }
+
+    @Override
+    public Server filterServer(Server server) {
+        return server.url(server.getUrl().replace("://example.com/", "://filtered.example.com/"));
+    }
+}
@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.filter;
+
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.Constructible;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+
+/**
+ * A filter which declares that it only filters tags, and appends <code>(filtered)</code> to their description. The
+ * rest of the document must not be changed by skipping the other elements.
+ */
+public class TagOnlyOASFilter implements OASFilter {
+
+    @Override
+    public Set<Class<? extends Constructible>> filteredTypes() {
+        return Set.of(Tag.class);
+    }
+
+    @Override
+    public Tag filterTag(Tag tag) {
+        return tag.description(tag.getDescription() + " (filtered)");
+    }
+}
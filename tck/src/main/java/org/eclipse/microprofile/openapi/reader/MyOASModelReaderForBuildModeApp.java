@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.reader;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.OASModelReader;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * Builds the document of the build mode tests, which is the same as <code>buildmode.yaml</code>.
+ */
+public class MyOASModelReaderForBuildModeApp implements OASModelReader {
+
+    @Override
+    public OpenAPI buildModel() {
+        return OASFactory.createOpenAPI()
+                .info(OASFactory.createInfo()
+                        .title("Build modes")
+                        .version("1.0"))
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/pets", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation()
+                                        .operationId("listPets")
+                                        .responses(OASFactory.createAPIResponses()
+                                                .addAPIResponse("200", OASFactory.createAPIResponse()
+                                                        .description("The pets")
+                                                        .content(OASFactory.createContent()
+                                                                .addMediaType("application/json",
+                                                                        OASFactory.createMediaType()
+                                                                                .schema(OASFactory.createSchema()
+                                                                                        .ref("Pet")))))))))
+                .components(OASFactory.createComponents()
+                        .addSchema("Pet", OASFactory.createSchema()
+                                .description("A pet")
+                                .addProperty("name", OASFactory.createSchema()
+                                        .description("The name of the pet"))));
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+
+/**
+ * Checks the budgets for the airlines application, whose document is built from annotations and a static file.
+ */
+public class AirlinesBudgetTest extends BudgetTestBase {
+
+    public AirlinesBudgetTest() {
+        super("airlines", 10_000, 64L * 1024 * 1024);
+    }
+
+    @Deployment(name = "airlinesBudget", testable = false)
+    public static WebArchive createDeployment() {
+        return addBudgetProbe(ShrinkWrap.create(WebArchive.class, "airlinesBudget.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines")
+                .addAsManifestResource("openapi.yaml", "openapi.yaml"));
+    }
+}
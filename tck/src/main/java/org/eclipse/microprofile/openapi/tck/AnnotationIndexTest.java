@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+
+import org.eclipse.microprofile.openapi.apps.indexed.ItemApi;
+import org.eclipse.microprofile.openapi.apps.indexed.ItemResource;
+import org.eclipse.microprofile.openapi.apps.petstore.PetStoreApp;
+import org.eclipse.microprofile.openapi.apps.petstore.model.ApiResponse;
+import org.eclipse.microprofile.openapi.apps.petstore.model.BadOrder;
+import org.eclipse.microprofile.openapi.apps.petstore.model.Cat;
+import org.eclipse.microprofile.openapi.apps.petstore.model.Category;
+import org.eclipse.microprofile.openapi.apps.petstore.model.Dog;
+import org.eclipse.microprofile.openapi.apps.petstore.model.Lizard;
+import org.eclipse.microprofile.openapi.apps.petstore.model.Order;
+import org.eclipse.microprofile.openapi.apps.petstore.model.Pet;
+import org.eclipse.microprofile.openapi.apps.petstore.model.Tag;
+import org.eclipse.microprofile.openapi.apps.petstore.model.User;
+import org.eclipse.microprofile.openapi.apps.petstore.resource.PetResource;
+import org.eclipse.microprofile.openapi.apps.petstore.resource.PetStoreResource;
+import org.eclipse.microprofile.openapi.processor.AnnotationIndexProcessor;
+import org.eclipse.microprofile.openapi.tck.utils.AnnotationIndexAsset;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * Tests that an annotation index is used instead of scanning the classes of the archive which contains it. The index
+ * of the deployment lists the classes of the petstore app except the UserResource, so the operations of the
+ * UserResource are not expected in the document. The ItemResource declares no annotations and is listed with the
+ * annotations inherited from the ItemApi interface, so its operation is expected in the document.
+ */
+public class AnnotationIndexTest extends AppTestBase {
+
+    @Deployment(name = "petstoreIndexed", testable = false)
+    public static WebArchive createDeployment() {
+        AnnotationIndexAsset index = new AnnotationIndexAsset()
+                .add(PetStoreApp.class, PetResource.class, PetStoreResource.class)
+                .add(ApiResponse.class, BadOrder.class, Cat.class, Category.class, Dog.class, Lizard.class,
+                        Order.class, Pet.class, Tag.class, User.class)
+                .add(ItemApi.class, ItemResource.class);
+        return ShrinkWrap.create(WebArchive.class, "petstoreIndexed.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.petstore")
+                .addPackage("org.eclipse.microprofile.openapi.apps.indexed")
+                .addAsResource(index, AnnotationIndexProcessor.INDEX_LOCATION);
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testIndexedClasses(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("info.title", equalTo("Pet Store App"));
+        vr.body("paths", hasKey("/pet"));
+        vr.body("paths", hasKey("/pet/{petId}"));
+        vr.body("paths", hasKey("/store/inventory"));
+        vr.body("paths", hasKey("/store/order/{orderId}"));
+        vr.body("components.schemas", hasKey("Lizard"));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testClassNotInIndex(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("paths", not(hasKey("/user")));
+        vr.body("paths", not(hasKey("/user/{username}")));
+        vr.body("paths", not(hasKey("/user/createWithArray")));
+        vr.body("paths", not(hasKey("/user/createWithList")));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testPathInheritedFromInterface(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("paths.'/indexed/items'.get.operationId", equalTo("listIndexedItems"));
+        vr.body("paths.'/indexed/items'.get.summary", equalTo("List the items"));
+    }
+}
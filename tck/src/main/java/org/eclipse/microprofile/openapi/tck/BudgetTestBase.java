@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static io.restassured.RestAssured.given;
+import static org.eclipse.microprofile.openapi.tck.Groups.BUDGET;
+import static org.testng.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.OASConfig;
+import org.eclipse.microprofile.openapi.tck.utils.ConfigAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Reporter;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import io.restassured.http.ContentType;
+
+/**
+ * Checks the cost of building the document of an application against configurable budgets. Each subclass deploys one
+ * application, with <code>mp.openapi.build.mode=lazy</code> so that the document is built by the first request of the
+ * /openapi endpoint, and the measurements are:
+ * <ul>
+ * <li>the time until the complete response of the first request of the /openapi endpoint has been received, which
+ * includes building, filtering and serializing the document and transferring it to the client</li>
+ * <li>the difference of the heap used by the server before and after that request, as reported by the MemoryMXBean of
+ * the server after garbage collection. Besides the model, this includes anything the implementation retains for later
+ * requests, such as the serialized or compressed bodies of the document, so it is an upper bound of the heap retained
+ * by the model.</li>
+ * </ul>
+ * The budgets are read from the system properties <code>mp.openapi.tck.budget.&lt;name&gt;.firstResponseMillis</code>
+ * and <code>mp.openapi.tck.budget.&lt;name&gt;.heapBytes</code>, where the name is <code>airlines</code> or
+ * <code>scale</code>. Since the measurements depend on the server and the machine which run the TCK, the tests of an
+ * application are skipped unless at least one of its budgets is set. The default is used for a budget which is not
+ * set.
+ */
+public abstract class BudgetTestBase extends AppTestBase {
+
+    /**
+     * Prefix of the system properties which contain the budgets.
+     */
+    public static final String PROPERTY_PREFIX = "mp.openapi.tck.budget.";
+
+    private final String name;
+    private final long defaultFirstResponseMillis;
+    private final long defaultHeapBytes;
+
+    protected BudgetTestBase(String name, long defaultFirstResponseMillis, long defaultHeapBytes) {
+        this.name = name;
+        this.defaultFirstResponseMillis = defaultFirstResponseMillis;
+        this.defaultHeapBytes = defaultHeapBytes;
+    }
+
+    /**
+     * Returns whether a budget of the given application is set, and its tests should run.
+     */
+    protected static boolean isEnabled(String name) {
+        return System.getProperty(PROPERTY_PREFIX + name + ".firstResponseMillis") != null
+                || System.getProperty(PROPERTY_PREFIX + name + ".heapBytes") != null;
+    }
+
+    /**
+     * Adds the resource which reports the heap usage and the configuration of the lazy build mode to a deployment.
+     */
+    protected static WebArchive addBudgetProbe(WebArchive war) {
+        ConfigAsset config = new ConfigAsset().put(OASConfig.BUILD_MODE, "lazy");
+        return war.addPackage("org.eclipse.microprofile.openapi.apps.budget")
+                .addAsManifestResource(config, "microprofile-config.properties");
+    }
+
+    @Test(groups = BUDGET)
+    public void testBudgets() {
+        if (!isEnabled(name)) {
+            throw new SkipException("No budget is set for " + name + " with the system properties " + PROPERTY_PREFIX
+                    + name + ".*");
+        }
+        long firstResponseBudget =
+                Long.getLong(PROPERTY_PREFIX + name + ".firstResponseMillis", defaultFirstResponseMillis);
+        long heapBudget = Long.getLong(PROPERTY_PREFIX + name + ".heapBytes", defaultHeapBytes);
+
+        long heapBefore = getUsedHeap();
+        long firstResponseMillis = given().accept(ContentType.JSON).when().get("/openapi")
+                .then().statusCode(200).extract().timeIn(TimeUnit.MILLISECONDS);
+        long heapBytes = Math.max(0, getUsedHeap() - heapBefore);
+
+        Reporter.log("Budget " + name + ": first response of /openapi after " + firstResponseMillis + " ms (budget "
+                + firstResponseBudget + " ms), retained heap " + heapBytes + " bytes (budget " + heapBudget
+                + " bytes)", true);
+        assertTrue(firstResponseMillis <= firstResponseBudget, "The first response of /openapi for " + name
+                + " took " + firstResponseMillis + " ms, which exceeds the budget of " + firstResponseBudget + " ms");
+        assertTrue(heapBytes <= heapBudget, "The first response of /openapi for " + name + " retained " + heapBytes
+                + " bytes of heap, which exceeds the budget of " + heapBudget + " bytes");
+    }
+
+    private static long getUsedHeap() {
+        return Long.parseLong(given().when().get("/budget/heap").then().statusCode(200).extract().asString().trim());
+    }
+}
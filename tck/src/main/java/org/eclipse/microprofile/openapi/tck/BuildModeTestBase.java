@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static io.restassured.RestAssured.given;
+import static org.testng.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.microprofile.openapi.OASConfig;
+import org.eclipse.microprofile.openapi.reader.MyOASModelReaderForBuildModeApp;
+import org.eclipse.microprofile.openapi.tck.utils.ConfigAsset;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import io.restassured.http.ContentType;
+
+/**
+ * Tests that the document served by the /openapi endpoint does not depend on the build mode. Each subclass deploys the
+ * same application with a different value of <code>mp.openapi.build.mode</code>, and the served document is compared
+ * with the fixed expected document <code>buildmode.yaml</code>. The application only has a model reader, so that the
+ * expected document does not depend on scanning.
+ * <p>
+ * The first requests of the /openapi endpoint of each deployment are sent concurrently by
+ * {@link #testConcurrentFirstRequests()}, which the other tests depend on, so that they race with the build of the
+ * document in the lazy and background modes.
+ */
+public abstract class BuildModeTestBase extends AppTestBase {
+
+    private static final int CONCURRENT_REQUESTS = 8;
+
+    protected static WebArchive createDeployment(String name, String buildMode) {
+        ConfigAsset config = new ConfigAsset()
+                .put(OASConfig.MODEL_READER, MyOASModelReaderForBuildModeApp.class.getName())
+                .put(OASConfig.SCAN_DISABLE, "true")
+                .put(OASConfig.BUILD_MODE, buildMode);
+        return ShrinkWrap.create(WebArchive.class, name + ".war")
+                .addClass(MyOASModelReaderForBuildModeApp.class)
+                .addAsManifestResource(config, "microprofile-config.properties");
+    }
+
+    @Test(dataProvider = "formatProvider", dependsOnMethods = "testConcurrentFirstRequests", alwaysRun = true)
+    public void testDocumentMatchesExpected(String type) throws IOException {
+        ObjectMapper mapper = "JSON".equals(type) ? new ObjectMapper() : new ObjectMapper(new YAMLFactory());
+        JsonNode served = mapper.readTree(getDocument(type));
+        JsonNode expected;
+        try (InputStream in = BuildModeTestBase.class.getResourceAsStream("/buildmode.yaml")) {
+            expected = new ObjectMapper(new YAMLFactory()).readTree(in);
+        }
+
+        // The openapi version and the servers may be added to the served document by the vendor
+        Set<String> names = new TreeSet<>();
+        served.fieldNames().forEachRemaining(names::add);
+        expected.fieldNames().forEachRemaining(names::add);
+        names.remove("openapi");
+        names.remove("servers");
+        for (String name : names) {
+            assertEquals(served.get(name), expected.get(name),
+                    "The served document is expected to have the same " + name + " for each build mode");
+        }
+    }
+
+    /**
+     * Sends the first requests of the /openapi endpoint of the deployment concurrently. The requests are released at
+     * the same time, so that in the lazy mode they all arrive before the document has been built.
+     */
+    @Test
+    public void testConcurrentFirstRequests() throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch ready = new CountDownLatch(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<byte[]>> results = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return getDocument("JSON");
+                }));
+            }
+            ready.await();
+            start.countDown();
+            byte[] expected = results.get(0).get();
+            for (Future<byte[]> result : results) {
+                assertEquals(result.get(), expected,
+                        "Concurrent first requests of the /openapi endpoint are expected to return the same document");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static byte[] getDocument(String type) {
+        return given().accept("JSON".equals(type) ? ContentType.JSON : ContentType.ANY)
+                .when().get("/openapi").then().statusCode(200).extract().asByteArray();
+    }
+}
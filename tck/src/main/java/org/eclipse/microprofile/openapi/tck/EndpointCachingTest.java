@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Tests the caching headers of the /openapi endpoint and its support for conditional requests.
+ */
+public class EndpointCachingTest extends AppTestBase {
+    @Deployment(name = "petstoreCaching", testable = false)
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "petstoreCaching.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.petstore");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testStrongETag(String type) {
+        Response response = request(type).when().get("/openapi");
+        response.then().statusCode(200);
+        String etag = response.header("ETag");
+        assertNotNull(etag, "The /openapi response is expected to contain an ETag header");
+        assertTrue(etag.matches("\"[^\"]*\""), "The ETag is expected to be a strong entity tag, but was: " + etag);
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testETagStable(String type) {
+        Response first = request(type).when().get("/openapi");
+        Response second = request(type).when().get("/openapi");
+        first.then().statusCode(200);
+        second.then().statusCode(200);
+        assertEquals(second.header("ETag"), first.header("ETag"),
+                "The ETag is expected to be the same for each request of an unchanged document");
+        assertEquals(second.asByteArray(), first.asByteArray(),
+                "The body is expected to be the same for each request of an unchanged document");
+    }
+
+    @Test
+    public void testETagPerFormat() {
+        String json = request("JSON").when().get("/openapi").then().statusCode(200).extract().header("ETag");
+        String yaml = request("YAML").when().get("/openapi").then().statusCode(200).extract().header("ETag");
+        assertNotEquals(json, yaml, "The JSON and YAML documents are expected to have different ETags");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testIfNoneMatch(String type) {
+        String etag = request(type).when().get("/openapi").then().statusCode(200).extract().header("ETag");
+        assertNotNull(etag, "The /openapi response is expected to contain an ETag header");
+
+        Response response = request(type).header("If-None-Match", etag).when().get("/openapi");
+        response.then().statusCode(304).header("ETag", equalTo(etag));
+        assertEquals(response.asByteArray().length, 0, "A 304 Not Modified response is expected to have no body");
+
+        request(type).header("If-None-Match", "\"unknown\", " + etag).when().get("/openapi")
+                .then().statusCode(304);
+        request(type).header("If-None-Match", "*").when().get("/openapi")
+                .then().statusCode(304);
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testIfNoneMatchOtherETag(String type) {
+        request(type).header("If-None-Match", "\"unknown\"").when().get("/openapi")
+                .then().statusCode(200).header("ETag", not(equalTo("\"unknown\"")));
+
+        // The ETag of the other format must not match
+        String otherType = "JSON".equals(type) ? "YAML" : "JSON";
+        String otherETag = request(otherType).when().get("/openapi").then().statusCode(200).extract().header("ETag");
+        request(type).header("If-None-Match", otherETag).when().get("/openapi")
+                .then().statusCode(200).header("ETag", not(startsWith("W/")));
+    }
+
+    private RequestSpecification request(String type) {
+        return given().accept("JSON".equals(type) ? ContentType.JSON : ContentType.ANY);
+    }
+}
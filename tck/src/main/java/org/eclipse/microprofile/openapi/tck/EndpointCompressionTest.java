@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static io.restassured.RestAssured.given;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Tests that the /openapi endpoint serves a gzip compressed document when the client accepts it, and that the
+ * decompressed document is the same as the uncompressed one.
+ */
+public class EndpointCompressionTest extends AppTestBase {
+    @Deployment(name = "petstoreCompression", testable = false)
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "petstoreCompression.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.petstore");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testGzip(String type) throws IOException {
+        Response identity = request(type, "identity").when().get("/openapi");
+        identity.then().statusCode(200);
+        assertNull(identity.header("Content-Encoding"),
+                "The document is not expected to be compressed unless the client accepts a compressed encoding");
+
+        Response gzip = request(type, "gzip").when().get("/openapi");
+        gzip.then().statusCode(200);
+        assertEquals(gzip.header("Content-Encoding"), "gzip",
+                "The document is expected to be gzip compressed when the client accepts gzip");
+        assertEquals(gzip.contentType(), identity.contentType(),
+                "The content type is expected to be the same for the compressed and uncompressed document");
+        assertEquals(gunzip(gzip.asByteArray()), identity.asByteArray(),
+                "The decompressed document is expected to be the same as the uncompressed document");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testGzipETag(String type) {
+        String identity = request(type, "identity").when().get("/openapi").then().statusCode(200)
+                .extract().header("ETag");
+        String gzip = request(type, "gzip").when().get("/openapi").then().statusCode(200)
+                .extract().header("ETag");
+        assertNotNull(gzip, "The compressed response is expected to contain an ETag header");
+        assertNotEquals(gzip, identity,
+                "The compressed and uncompressed documents are expected to have different ETags");
+
+        request(type, "gzip").header("If-None-Match", gzip).when().get("/openapi").then().statusCode(304);
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testGzipVary(String type) {
+        String vary = request(type, "gzip").when().get("/openapi").then().statusCode(200).extract().header("Vary");
+        assertNotNull(vary, "The response is expected to contain a Vary header");
+        assertTrue(vary.toLowerCase(Locale.ROOT).contains("accept-encoding"),
+                "The Vary header is expected to contain Accept-Encoding, but was: " + vary);
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testGzipNotAcceptable(String type) {
+        Response response = request(type, "gzip;q=0, identity").when().get("/openapi");
+        response.then().statusCode(200);
+        assertNull(response.header("Content-Encoding"),
+                "The document is not expected to be compressed with an encoding the client does not accept");
+    }
+
+    // Disables the automatic decompression of rest-assured, so that the raw response body can be checked
+    private RequestSpecification request(String type, String acceptEncoding) {
+        return given()
+                .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", acceptEncoding)
+                .accept("JSON".equals(type) ? ContentType.JSON : ContentType.ANY);
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
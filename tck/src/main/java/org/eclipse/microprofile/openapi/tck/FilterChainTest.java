@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * Tests a chain of two filters configured with mp.openapi.filter.
+ */
+public class FilterChainTest extends AppTestBase {
+    @Deployment(name = "airlinesFilterChain", testable = false)
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "airlinesFilterChain.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines")
+                .addPackages(true, "org.eclipse.microprofile.openapi.filter")
+                .addAsManifestResource("microprofile-config-filter-chain.properties",
+                        "microprofile-config.properties");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testFilterChainOrder(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        // Each element is passed through every filter in list order, after all of its descendants, and filterOpenAPI
+        // is called last for each filter in list order. Separate walks per filter would interleave differently.
+        vr.body("paths.'/bookings/{id}'.get.x-filter-calls", equalTo("first-operation,second-operation,"
+                + "first-pathItem,second-pathItem,first-openAPI,second-openAPI"));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testFilterChainRemoval(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("paths.'/bookings/{id}'.delete", nullValue());
+        vr.body("paths.'/bookings/{id}'.get", notNullValue());
+        // An element removed by a filter is not passed to the filters after it
+        vr.body("x-first-operations", hasItem("deleteBookingById"));
+        vr.body("x-second-operations", not(hasItem("deleteBookingById")));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testFilterChainSinglePass(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        // Each filter is called once for each element
+        vr.body("x-first-operations.findAll { it == 'getBookingById' }", contains("getBookingById"));
+        vr.body("x-second-operations.findAll { it == 'getBookingById' }", contains("getBookingById"));
+    }
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static io.restassured.RestAssured.given;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.microprofile.openapi.OASConfig;
+import org.eclipse.microprofile.openapi.filter.ServerOnlyOASFilter;
+import org.eclipse.microprofile.openapi.filter.TagOnlyOASFilter;
+import org.eclipse.microprofile.openapi.tck.utils.ConfigAsset;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import io.restassured.http.ContentType;
+
+/**
+ * Tests filters which declare a subset of the filterable types with <code>filteredTypes()</code>. The
+ * ServerOnlyOASFilter only declares servers, and every server of the document, including those nested in path items,
+ * operations, callbacks and links, is expected to be filtered. The TagOnlyOASFilter only declares tags. Apart from
+ * the servers and the tags, the served document is expected to be the same as the static file
+ * <code>filtered-types.yaml</code>, so that skipping the parts of the model which cannot contain a declared type does
+ * not change them.
+ */
+public class FilteredTypesTest extends AppTestBase {
+
+    @Deployment(name = "filteredTypes", testable = false)
+    public static WebArchive createDeployment() {
+        ConfigAsset config = new ConfigAsset()
+                .put(OASConfig.FILTER, ServerOnlyOASFilter.class.getName() + "," + TagOnlyOASFilter.class.getName())
+                .put(OASConfig.SCAN_DISABLE, "true");
+        return ShrinkWrap.create(WebArchive.class, "filteredTypes.war")
+                .addClasses(ServerOnlyOASFilter.class, TagOnlyOASFilter.class)
+                .addAsManifestResource("filtered-types.yaml", "openapi.yaml")
+                .addAsManifestResource(config, "microprofile-config.properties");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testNestedServersFiltered(String type) throws IOException {
+        JsonNode served = getDocument(type);
+        JsonNode pets = served.path("paths").path("/pets");
+        String[][] servers = {
+                {"The document server", served.path("servers").path(0).path("url").asText()},
+                {"The path item server", pets.path("servers").path(0).path("url").asText()},
+                {"The operation server", pets.path("get").path("servers").path(0).path("url").asText()},
+                {"The link server", pets.path("get").path("responses").path("200").path("links").path("firstPet")
+                        .path("server").path("url").asText()},
+                {"The callback operation server", pets.path("post").path("callbacks").path("petAdded")
+                        .path("{$request.query.callbackUrl}").path("post").path("servers").path(0).path("url")
+                        .asText()}};
+        for (String[] server : servers) {
+            assertTrue(server[1].startsWith("https://filtered.example.com/"), server[0]
+                    + " is expected to be filtered by a filter which declares Server, but its url is " + server[1]);
+        }
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testTagsFiltered(String type) throws IOException {
+        JsonNode served = getDocument(type);
+        assertEquals(served.path("tags").path(0).path("description").asText(), "The pets (filtered)",
+                "The tag is expected to be filtered by a filter which declares Tag");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testRestOfDocumentUnchanged(String type) throws IOException {
+        JsonNode served = getDocument(type);
+        JsonNode expected;
+        try (InputStream in = FilteredTypesTest.class.getResourceAsStream("/filtered-types.yaml")) {
+            expected = new ObjectMapper(new YAMLFactory()).readTree(in);
+        }
+        filterServers(expected);
+        ObjectNode tag = (ObjectNode) expected.path("tags").path(0);
+        tag.put("description", tag.path("description").asText() + " (filtered)");
+
+        // The openapi version may be changed by the vendor
+        Set<String> names = new TreeSet<>();
+        served.fieldNames().forEachRemaining(names::add);
+        expected.fieldNames().forEachRemaining(names::add);
+        names.remove("openapi");
+        for (String name : names) {
+            assertEquals(served.get(name), expected.get(name), "The " + name
+                    + " of the document are expected to be unchanged, except for the servers and the tags");
+        }
+    }
+
+    /**
+     * Applies the change of the ServerOnlyOASFilter to every server of the static file.
+     */
+    private static void filterServers(JsonNode node) {
+        if (node.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if ("servers".equals(field.getKey())) {
+                    field.getValue().forEach(FilteredTypesTest::filterServer);
+                } else if ("server".equals(field.getKey())) {
+                    filterServer(field.getValue());
+                } else {
+                    filterServers(field.getValue());
+                }
+            }
+        } else if (node.isArray()) {
+            node.forEach(FilteredTypesTest::filterServers);
+        }
+    }
+
+    private static void filterServer(JsonNode server) {
+        ObjectNode object = (ObjectNode) server;
+        object.put("url", object.path("url").asText().replace("://example.com/", "://filtered.example.com/"));
+    }
+
+    private static JsonNode getDocument(String type) throws IOException {
+        ObjectMapper mapper = "JSON".equals(type) ? new ObjectMapper() : new ObjectMapper(new YAMLFactory());
+        byte[] served = given().accept("JSON".equals(type) ? ContentType.JSON : ContentType.ANY)
+                .when().get("/openapi").then().statusCode(200).extract().asByteArray();
+        return mapper.readTree(served);
+    }
+}
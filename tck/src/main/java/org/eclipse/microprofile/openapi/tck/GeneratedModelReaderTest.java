@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import org.eclipse.microprofile.openapi.OASConfig;
+import org.eclipse.microprofile.openapi.tck.utils.ConfigAsset;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+
+/**
+ * Runs the generated reader tests with the OASModelReader generated by the annotation processor and annotation
+ * scanning disabled.
+ */
+public class GeneratedModelReaderTest extends GeneratedModelReaderTestBase {
+    @Deployment(name = "generatedReader", testable = false)
+    public static WebArchive createDeployment() {
+        ConfigAsset config = new ConfigAsset()
+                .put(OASConfig.MODEL_READER, GENERATED_READER)
+                .put(OASConfig.SCAN_DISABLE, "true");
+        return ShrinkWrap.create(WebArchive.class, "generatedReader.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.generated")
+                .addAsManifestResource(config, "microprofile-config.properties");
+    }
+}
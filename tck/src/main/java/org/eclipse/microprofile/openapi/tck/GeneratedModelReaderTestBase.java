@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.eclipse.microprofile.openapi.tck.utils.TCKMatchers.comparesEqualToNumber;
+import static org.eclipse.microprofile.openapi.tck.utils.TCKMatchers.itemOrSingleton;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * Tests of the apps.generated application. The same assertions are run against the document built by the
+ * OASModelReader generated by the MicroProfile OpenAPI annotation processor, and against the document built by
+ * scanning the annotations, so the two documents are expected to match.
+ */
+public abstract class GeneratedModelReaderTestBase extends AppTestBase {
+
+    protected static final String GENERATED_READER =
+            "org.eclipse.microprofile.openapi.apps.generated.GeneratedModelReader";
+
+    @Test(dataProvider = "formatProvider")
+    public void testDefinition(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("info.title", equalTo("Flight Schedule"));
+        vr.body("info.version", equalTo("1.0"));
+        vr.body("info.description", equalTo("Flight schedule API"));
+        vr.body("info.contact.name", equalTo("Flight Schedule Support"));
+        vr.body("info.contact.email", equalTo("support@example.com"));
+        vr.body("info.license.name", equalTo("Apache 2.0"));
+        vr.body("info.license.identifier", equalTo("Apache-2.0"));
+        vr.body("tags.find { it.name == 'flights' }.description", equalTo("Scheduled flights"));
+        vr.body("servers.url", contains("https://example.com/schedule"));
+        vr.body("servers[0].description", equalTo("Production server"));
+        vr.body("externalDocs.url", equalTo("https://example.com/docs"));
+        vr.body("externalDocs.description", equalTo("Flight schedule documentation"));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testImplementationSchema(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        String flight = "components.schemas.Flight";
+        vr.body(flight + ".type", itemOrSingleton("object"));
+        vr.body(flight + ".description", equalTo("A scheduled flight"));
+        vr.body(flight + ".required", hasItem("number"));
+        vr.body(flight + ".properties", not(hasKey("internalNote")));
+
+        vr.body(flight + ".properties.number.type", itemOrSingleton("string"));
+        vr.body(flight + ".properties.number.pattern", equalTo("[A-Z0-9]{2}[0-9]{1,4}"));
+        vr.body(flight + ".properties.seats.type", itemOrSingleton("integer"));
+        vr.body(flight + ".properties.seats.format", equalTo("int32"));
+        vr.body(flight + ".properties.seats.minimum", comparesEqualToNumber(1));
+        vr.body(flight + ".properties.seats.maximum", comparesEqualToNumber(900));
+        vr.body(flight + ".properties.departure.type", itemOrSingleton("string"));
+        vr.body(flight + ".properties.departure.format", equalTo("date-time"));
+
+        String status = dereference(vr, flight + ".properties.status");
+        vr.body(status + ".type", itemOrSingleton("string"));
+        vr.body(status + ".enum", containsInAnyOrder("SCHEDULED", "DELAYED", "CANCELLED", "LANDED"));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testReferencedSchema(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        String flight = "components.schemas.Flight";
+        String origin = dereference(vr, flight + ".properties.origin");
+        vr.body(origin + ".description", equalTo("An airport"));
+        vr.body(origin + ".properties.code.type", itemOrSingleton("string"));
+        vr.body(origin + ".properties.code.pattern", equalTo("[A-Z]{3}"));
+        vr.body(origin + ".properties.name.type", itemOrSingleton("string"));
+
+        vr.body(flight + ".properties.stops.type", itemOrSingleton("array"));
+        String stop = dereference(vr, flight + ".properties.stops.items");
+        vr.body(stop + ".description", equalTo("An airport"));
+        vr.body(stop + ".properties.code.pattern", equalTo("[A-Z]{3}"));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testPropertiesSchema(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        String price = "components.schemas.Price";
+        vr.body(price + ".type", itemOrSingleton("object"));
+        vr.body(price + ".required", contains("amount"));
+        vr.body(price + ".properties.amount.type", itemOrSingleton("number"));
+        vr.body(price + ".properties.amount.exclusiveMinimum", comparesEqualToNumber(0));
+        vr.body(price + ".properties.amount.minimum", nullValue());
+        vr.body(price + ".properties.currency.type", itemOrSingleton("string"));
+        vr.body(price + ".properties.currency.enum", contains("EUR", "USD"));
+        vr.body(price + ".properties.currency.default", equalTo("EUR"));
+    }
+}
@@ -23,4 +23,8 @@ public class Groups {
 
     public static final String BEAN_VALIDATION = "bean-validation";
 
+    public static final String SCALE = "scale";
+
+    public static final String BUDGET = "budget";
+
 }
@@ -41,6 +41,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -55,6 +56,7 @@ import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.OpenAPIVisitor;
 import org.eclipse.microprofile.openapi.models.Operation;
 import org.eclipse.microprofile.openapi.models.PathItem;
 import org.eclipse.microprofile.openapi.models.PathItem.HttpMethod;
@@ -419,6 +421,57 @@ public class ModelConstructionTest extends Arquillian {
         checkNullValueInAdd(c::getPathItems, c::addPathItem, "somePathItem", pathItemValue);
     }
 
+    @Test
+    public void componentsResolveTest() {
+        final Components c = createConstructibleInstance(Components.class);
+        final Schema pet = createConstructibleInstance(Schema.class);
+        final Schema escaped = createConstructibleInstance(Schema.class);
+        final APIResponse notFound = createConstructibleInstance(APIResponse.class);
+        final Parameter limit = createConstructibleInstance(Parameter.class);
+        c.addSchema("Pet", pet)
+                .addSchema("a/b~c", escaped)
+                .addResponse("NotFound", notFound)
+                .addParameter("limit", limit);
+
+        assertSame(c.resolve("#/components/schemas/Pet"), pet,
+                "Components.resolve is expected to return the schema the reference refers to.");
+        assertSame(c.resolve("#/components/schemas/a~1b~0c"), escaped,
+                "Components.resolve is expected to decode the escape sequences ~1 and ~0.");
+        assertSame(c.resolve("#/components/responses/NotFound"), notFound,
+                "Components.resolve is expected to return the response the reference refers to.");
+        assertSame(c.resolve("#/components/parameters/limit"), limit,
+                "Components.resolve is expected to return the parameter the reference refers to.");
+        assertNull(c.resolve("#/components/schemas/Other"),
+                "Components.resolve is expected to return null for a component which does not exist.");
+        assertNull(c.resolve("#/components/schemas/Pet/properties/id"),
+                "Components.resolve is expected to return null for a reference which is not a component.");
+        assertNull(c.resolve("Pet"), "Components.resolve is expected to return null for a short name.");
+        assertNull(c.resolve("other.yaml#/components/schemas/Pet"),
+                "Components.resolve is expected to return null for an external reference.");
+        assertNull(c.resolve((String) null), "Components.resolve is expected to return null for a null reference.");
+
+        final Schema petRef = createConstructibleInstance(Schema.class).ref("Pet");
+        assertSame(c.resolve(petRef), pet, "Components.resolve is expected to resolve a Schema reference.");
+        final APIResponse notFoundRef = createConstructibleInstance(APIResponse.class).ref("NotFound");
+        assertSame(c.resolve(notFoundRef), notFound,
+                "Components.resolve is expected to resolve an APIResponse reference.");
+        final Schema wrongType = createConstructibleInstance(Schema.class).ref("#/components/responses/NotFound");
+        assertNull(c.resolve(wrongType),
+                "Components.resolve is expected to return null for a reference to a component of another type.");
+        assertNull(c.resolve(createConstructibleInstance(Schema.class)),
+                "Components.resolve is expected to return null for an object without a reference.");
+
+        // Check that the result reflects later changes of the components
+        final Schema otherPet = createConstructibleInstance(Schema.class);
+        c.addSchema("Pet", otherPet);
+        assertSame(c.resolve(petRef), otherPet,
+                "Components.resolve is expected to return the schema which replaced the previous one.");
+        c.removeSchema("Pet");
+        assertNull(c.resolve(petRef), "Components.resolve is expected to return null for a removed schema.");
+        c.setResponses(null);
+        assertNull(c.resolve(notFoundRef), "Components.resolve is expected to return null for a removed response.");
+    }
+
     @Test
     public void externalDocumentationTest() {
         processConstructible(ExternalDocumentation.class);
@@ -486,6 +539,282 @@ public class ModelConstructionTest extends Arquillian {
         checkListImmutable(o, OpenAPI::getTags, otherTag);
     }
 
+    @Test
+    public void openAPIFreezeTest() {
+        final OpenAPI o = createSampleOpenAPI();
+        assertFalse(o.isFrozen(), "An OpenAPI instance created by OASFactory is expected to be mutable.");
+
+        final OpenAPI frozen = o.freeze();
+        assertNotNull(frozen, "The return value of freeze() must not be null.");
+        assertTrue(frozen.isFrozen(), "The return value of freeze() is expected to be frozen.");
+        assertFalse(o.isFrozen(), "Calling freeze() is expected to leave the original instance mutable.");
+        assertSame(frozen.freeze(), frozen, "Calling freeze() on a frozen instance is expected to return it.");
+
+        // Check that the snapshot contains the same values as the original
+        checkSampleOpenAPI(frozen);
+
+        // Check that the snapshot and the model objects reachable from it reject changes
+        final Info info = frozen.getInfo();
+        final Operation operation = frozen.getPaths().getPathItem("/pets").getGET();
+        final Schema schema = frozen.getComponents().getSchemas().get("Pet");
+        checkUnsupported(() -> frozen.setOpenapi("3.1.1"), "OpenAPI.setOpenapi");
+        checkUnsupported(() -> frozen.info(createConstructibleInstance(Info.class)), "OpenAPI.info");
+        checkUnsupported(() -> frozen.addExtension("x-other", "value"), "OpenAPI.addExtension");
+        checkUnsupported(() -> frozen.addServer(createConstructibleInstance(Server.class)), "OpenAPI.addServer");
+        checkUnsupported(() -> info.setTitle("Other"), "Info.setTitle");
+        checkUnsupported(() -> frozen.getPaths().addPathItem("/other", createConstructibleInstance(PathItem.class)),
+                "Paths.addPathItem");
+        checkUnsupported(() -> operation.setOperationId("other"), "Operation.setOperationId");
+        checkUnsupported(() -> operation.getResponses().removeAPIResponse("200"), "APIResponses.removeAPIResponse");
+        checkUnsupported(() -> schema.addProperty("other", createConstructibleInstance(Schema.class)),
+                "Schema.addProperty");
+        checkUnsupported(() -> schema.set("x-other", "value"), "Schema.set");
+        checkUnsupported(() -> frozen.getComponents().removeSchema("Pet"), "Components.removeSchema");
+
+        // Check that the maps and lists of the snapshot are unmodifiable
+        checkListImmutable(frozen, OpenAPI::getServers, createConstructibleInstance(Server.class));
+        checkListImmutable(frozen, OpenAPI::getTags, createConstructibleInstance(Tag.class));
+        checkMapImmutable(frozen, OpenAPI::getExtensions, "x-other", new Object());
+        checkMapImmutable(frozen.getPaths(), Paths::getPathItems, "/other",
+                createConstructibleInstance(PathItem.class));
+        checkMapImmutable(frozen.getComponents(), Components::getSchemas, "Other",
+                createConstructibleInstance(Schema.class));
+        checkMapImmutable(schema, Schema::getProperties, "other", createConstructibleInstance(Schema.class));
+
+        // Check that later changes to the original are not reflected in the snapshot
+        o.getInfo().setTitle("Changed");
+        o.getPaths().addPathItem("/other", createConstructibleInstance(PathItem.class));
+        o.getComponents().getSchemas().get("Pet").addProperty("other", createConstructibleInstance(Schema.class));
+        o.removeServer(o.getServers().get(0));
+        checkSampleOpenAPI(frozen);
+    }
+
+    @Test
+    public void openAPICopyTest() {
+        final OpenAPI o = createSampleOpenAPI();
+        final OpenAPI c = o.copy();
+        assertNotNull(c, "The return value of copy() must not be null.");
+        assertNotSame(c, o, "copy() is expected to return a new object.");
+        assertFalse(c.isFrozen(), "The return value of copy() is expected to be mutable.");
+        checkSampleOpenAPI(c);
+
+        // Check that changes made to the copy are not visible in the original
+        final OpenAPI c2 = o.copy();
+        c.getInfo().setTitle("Changed");
+        c.getServers().get(0).setUrl("https://example.com/v2");
+        c.addExtension("x-other", "value");
+        c.getPaths().addPathItem("/other", createConstructibleInstance(PathItem.class));
+        c.getPaths().getPathItem("/pets").getGET().getParameters().get(0).setName("offset");
+        final Schema copiedPet = c.getComponents().getSchemas().get("Pet");
+        copiedPet.addProperty("other", createConstructibleInstance(Schema.class));
+        copiedPet.set("x-custom", "changed");
+        copiedPet.getProperties().get("tag").setRef("Other");
+        c.getComponents().removeSchema("Tag");
+        checkSampleOpenAPI(o);
+
+        // Check that changes made to the original are not visible in a copy
+        o.getInfo().setTitle("Changed");
+        o.removeServer(o.getServers().get(0));
+        o.getPaths().getPathItem("/pets").getGET().setOperationId("other");
+        o.getComponents().getSchemas().get("Pet").set("x-custom", "changed");
+        o.getComponents().getSchemas().get("Pet").removeProperty("name");
+        checkSampleOpenAPI(c2);
+        assertEquals(c2.getComponents().getSchemas().get("Pet").getProperties().get("tag").getRef(),
+                "#/components/schemas/Tag", "Schema.ref is expected to be equal to the value that was set.");
+
+        // Check that a copy of a frozen model is mutable and independent of the snapshot
+        final OpenAPI frozen = c2.freeze();
+        final OpenAPI c3 = frozen.copy();
+        assertFalse(c3.isFrozen(), "The copy of a frozen model is expected to be mutable.");
+        checkSampleOpenAPI(c3);
+        c3.getInfo().setTitle("Changed");
+        c3.getComponents().getSchemas().get("Pet").addProperty("other", createConstructibleInstance(Schema.class));
+        checkSampleOpenAPI(frozen);
+    }
+
+    @Test
+    public void openAPIWalkTest() {
+        final OpenAPI o = createSampleOpenAPI();
+        final List<String> entered = new ArrayList<>();
+        final List<String> left = new ArrayList<>();
+        final List<String> schemas = new ArrayList<>();
+        o.walk(new OpenAPIVisitor() {
+            @Override
+            public boolean enter(Constructible object, Location location) {
+                assertNotNull(object, "The object passed to the visitor must not be null.");
+                if (location.getParent() == null) {
+                    assertEquals(location.getDepth(), 0, "The depth of the document location is expected to be 0.");
+                    assertEquals(location.getName(), "", "The name of the document location is expected to be empty.");
+                } else {
+                    assertEquals(location.getDepth(), location.getParent().getDepth() + 1,
+                            "The depth of a location is expected to be one more than the depth of its parent.");
+                    // Not every location is the location of a model object, e.g. #/servers
+                    Location parent = location.getParent();
+                    while (!entered.contains(parent.getPointer())) {
+                        parent = parent.getParent();
+                    }
+                    assertFalse(left.contains(parent.getPointer()),
+                            "An object is expected to be visited before its parent is left: " + location.getPointer());
+                }
+                entered.add(location.getPointer());
+                return true;
+            }
+
+            @Override
+            public void leave(Constructible object, Location location) {
+                assertTrue(entered.contains(location.getPointer()),
+                        "An object is expected to be entered before it is left: " + location.getPointer());
+                left.add(location.getPointer());
+            }
+
+            @Override
+            public boolean enterSchema(Schema schema, Location location) {
+                schemas.add(location.getPointer());
+                return enter(schema, location);
+            }
+        });
+
+        assertEquals(entered.get(0), "#", "The document itself is expected to be entered first.");
+        assertEquals(left.get(left.size() - 1), "#", "The document itself is expected to be left last.");
+        assertEquals(new HashSet<>(left), new HashSet<>(entered), "Every entered object is expected to be left.");
+        for (String pointer : Arrays.asList("#/info", "#/servers/0", "#/tags/0", "#/paths", "#/paths/~1pets",
+                "#/paths/~1pets/get", "#/paths/~1pets/get/parameters/0", "#/paths/~1pets/get/responses",
+                "#/paths/~1pets/get/responses/200", "#/paths/~1pets/get/responses/200/content",
+                "#/paths/~1pets/get/responses/200/content/application~1json", "#/components")) {
+            assertTrue(entered.contains(pointer), "The walk is expected to visit " + pointer);
+        }
+        assertEquals(new HashSet<>(schemas), new HashSet<>(Arrays.asList(
+                "#/paths/~1pets/get/parameters/0/schema",
+                "#/paths/~1pets/get/responses/200/content/application~1json/schema",
+                "#/paths/~1pets/get/responses/200/content/application~1json/schema/items",
+                "#/components/schemas/Pet",
+                "#/components/schemas/Pet/properties/name",
+                "#/components/schemas/Pet/properties/tag",
+                "#/components/schemas/Tag")), "The walk is expected to visit every schema in the document.");
+        assertEquals(schemas.size(), 7, "The walk is expected to visit each schema once.");
+
+        // Check that the children of an object are skipped when enter returns false
+        final List<String> skipped = new ArrayList<>();
+        o.walk(new OpenAPIVisitor() {
+            @Override
+            public boolean enter(Constructible object, Location location) {
+                skipped.add(location.getPointer());
+                return true;
+            }
+
+            @Override
+            public boolean enterPaths(Paths paths, Location location) {
+                skipped.add(location.getPointer());
+                return false;
+            }
+
+            @Override
+            public void leavePaths(Paths paths, Location location) {
+                skipped.add(location.getPointer() + " (left)");
+            }
+        });
+        assertTrue(skipped.contains("#/paths") && skipped.contains("#/paths (left)"),
+                "An object is expected to be left even when its children are skipped.");
+        assertTrue(skipped.contains("#/components/schemas/Pet/properties/name"),
+                "Objects outside the skipped subtree are expected to be visited.");
+        for (String pointer : skipped) {
+            assertFalse(pointer.startsWith("#/paths/"), "The children of a skipped object must not be visited.");
+        }
+    }
+
+    @Test
+    public void openAPIWalkSharedAndCyclicSchemasTest() {
+        final Schema shared = createConstructibleInstance(Schema.class).addType(Schema.SchemaType.STRING);
+        final Schema node = createConstructibleInstance(Schema.class).addType(Schema.SchemaType.OBJECT)
+                .addProperty("value", shared)
+                .addProperty("label", shared);
+        node.addProperty("next", node);
+        node.addAllOf(createConstructibleInstance(Schema.class).addProperty("parent", node));
+        final OpenAPI o = createConstructibleInstance(OpenAPI.class)
+                .components(createConstructibleInstance(Components.class).addSchema("Node", node));
+
+        final List<String> entered = new ArrayList<>();
+        final List<String> left = new ArrayList<>();
+        o.walk(new OpenAPIVisitor() {
+            @Override
+            public boolean enterSchema(Schema schema, Location location) {
+                entered.add(location.getPointer());
+                return true;
+            }
+
+            @Override
+            public void leaveSchema(Schema schema, Location location) {
+                left.add(location.getPointer());
+            }
+        });
+
+        assertEquals(new HashSet<>(entered), new HashSet<>(Arrays.asList(
+                "#/components/schemas/Node",
+                "#/components/schemas/Node/properties/value",
+                "#/components/schemas/Node/properties/label",
+                "#/components/schemas/Node/allOf/0")),
+                "A shared schema is expected to be visited at each place and a cyclic schema not to be visited again.");
+        assertEquals(entered.size(), 4, "Each place is expected to be visited once.");
+        assertEquals(new HashSet<>(left), new HashSet<>(entered), "Every entered schema is expected to be left.");
+
+        // The same schema is visited again once the walk has left it
+        o.getComponents().addSchema("Alias", node);
+        entered.clear();
+        o.walk(new OpenAPIVisitor() {
+            @Override
+            public boolean enterSchema(Schema schema, Location location) {
+                entered.add(location.getPointer());
+                return true;
+            }
+        });
+        assertTrue(entered.contains("#/components/schemas/Alias/properties/value"),
+                "A schema reachable from two components is expected to be walked below each of them.");
+    }
+
+    @Test
+    public void openAPIFindReferencesToTest() {
+        final OpenAPI o = createSampleOpenAPI();
+        final Schema items = o.getPaths().getPathItem("/pets").getGET().getResponses().getAPIResponse("200")
+                .getContent().getMediaType("application/json").getSchema().getItems();
+        final Schema tagProperty = o.getComponents().getSchemas().get("Pet").getProperties().get("tag");
+
+        checkReferences(o.findReferencesTo("#/components/schemas/Pet"), items);
+        checkReferences(o.findReferencesTo("#/components/schemas/Tag"), tagProperty);
+        checkReferences(o.findReferencesTo("#/components/schemas/Other"));
+        checkReferences(o.findReferencesTo("Pet"));
+
+        // Check that a new reference is found
+        final Schema body = createConstructibleInstance(Schema.class).ref("Pet");
+        o.getPaths().getPathItem("/pets").POST(createConstructibleInstance(Operation.class)
+                .requestBody(createConstructibleInstance(RequestBody.class)
+                        .content(createConstructibleInstance(Content.class)
+                                .addMediaType("application/json",
+                                        createConstructibleInstance(MediaType.class).schema(body)))));
+        checkReferences(o.findReferencesTo("#/components/schemas/Pet"), items, body);
+
+        // Check that changed references are found with their new value
+        for (Reference<?> reference : o.findReferencesTo("#/components/schemas/Pet")) {
+            reference.setRef("#/components/schemas/Animal");
+        }
+        checkReferences(o.findReferencesTo("#/components/schemas/Pet"));
+        checkReferences(o.findReferencesTo("#/components/schemas/Animal"), items, body);
+
+        // Check that removed references are not found
+        o.getPaths().getPathItem("/pets").setPOST(null);
+        checkReferences(o.findReferencesTo("#/components/schemas/Animal"), items);
+    }
+
+    private void checkReferences(List<Reference<?>> actual, Reference<?>... expected) {
+        assertNotNull(actual, "The return value of OpenAPI.findReferencesTo must not be null.");
+        assertEquals(actual.size(), expected.length,
+                "OpenAPI.findReferencesTo is expected to return one entry for each reference.");
+        for (Reference<?> reference : expected) {
+            assertTrue(actual.stream().anyMatch(r -> r == reference),
+                    "OpenAPI.findReferencesTo is expected to return the Reference object with ref "
+                            + reference.getRef());
+        }
+    }
+
     @Test
     public void operationTest() {
         final Operation o = processConstructible(Operation.class);
@@ -1461,6 +1790,47 @@ public class ModelConstructionTest extends Arquillian {
         });
     }
 
+    @Test
+    public void testSchemaGetAll() {
+        final Schema s = createConstructibleInstance(Schema.class);
+        final String description = "test schema";
+        final BigDecimal minimum = new BigDecimal("3");
+        final Schema items = createConstructibleInstance(Schema.class);
+        final String custom = "custom value";
+        s.description(description).minimum(minimum).items(items).set("customKeyword", custom);
+
+        final Map<String, ?> all = s.getAll();
+        assertEquals(all.size(), 4, "Schema.getAll() is expected to contain an entry for each property that was set.");
+        assertSame(all.get("description"), description,
+                "Schema.getAll() is expected to contain the same instance as was set for property description");
+        assertSame(all.get("minimum"), minimum,
+                "Schema.getAll() is expected to contain the same instance as was set for property minimum");
+        assertSame(all.get("items"), items,
+                "Schema.getAll() is expected to contain the same instance as was set for property items");
+        assertSame(all.get("customKeyword"), custom,
+                "Schema.getAll() is expected to contain the same instance as was set for property customKeyword");
+        assertFalse(all.containsValue(null), "Schema.getAll() is not expected to contain null values.");
+
+        // The map returned earlier is either a copy or a view which reflects the changes
+        final String other = "other value";
+        s.setDescription(null);
+        s.set("otherKeyword", other);
+        assertEquals(all.size(), 4, "The map returned by Schema.getAll() is expected to be a copy or a view.");
+        if (all.containsKey("description")) {
+            assertFalse(all.containsKey("otherKeyword"),
+                    "A copy returned by Schema.getAll() is not expected to reflect later changes.");
+        } else {
+            assertSame(all.get("otherKeyword"), other,
+                    "A view returned by Schema.getAll() is expected to reflect later changes.");
+        }
+
+        // Setting the properties returned by getAll() leaves them unchanged
+        final Map<String, Object> expected = new HashMap<>(s.getAll());
+        s.setAll(s.getAll());
+        assertEquals(s.getAll(), expected,
+                "Schema.setAll(getAll()) is expected to leave the properties of the Schema unchanged.");
+    }
+
     @Test
     public void xmlTest() {
         processConstructible(XML.class);
@@ -1732,6 +2102,85 @@ public class ModelConstructionTest extends Arquillian {
         processConstructible(Tag.class);
     }
 
+    // Creates a small but complete document, used to test operations on a whole model tree.
+    private OpenAPI createSampleOpenAPI() {
+        final Schema pet = createConstructibleInstance(Schema.class)
+                .addType(Schema.SchemaType.OBJECT)
+                .addProperty("name", createConstructibleInstance(Schema.class).addType(Schema.SchemaType.STRING))
+                .addProperty("tag", createConstructibleInstance(Schema.class).ref("Tag"))
+                .addRequired("name");
+        pet.set("x-custom", "custom value");
+        final Schema tag = createConstructibleInstance(Schema.class).addType(Schema.SchemaType.STRING);
+        final APIResponse ok = createConstructibleInstance(APIResponse.class)
+                .description("A list of pets")
+                .content(createConstructibleInstance(Content.class)
+                        .addMediaType("application/json", createConstructibleInstance(MediaType.class)
+                                .schema(createConstructibleInstance(Schema.class)
+                                        .addType(Schema.SchemaType.ARRAY)
+                                        .items(createConstructibleInstance(Schema.class).ref("Pet")))));
+        final Operation listPets = createConstructibleInstance(Operation.class)
+                .operationId("listPets")
+                .addTag("pets")
+                .addParameter(createConstructibleInstance(Parameter.class)
+                        .name("limit")
+                        .in(Parameter.In.QUERY)
+                        .schema(createConstructibleInstance(Schema.class).addType(Schema.SchemaType.INTEGER)))
+                .responses(createConstructibleInstance(APIResponses.class).addAPIResponse("200", ok));
+        return createConstructibleInstance(OpenAPI.class)
+                .openapi("3.1.0")
+                .info(createConstructibleInstance(Info.class).title("Pets").version("1.0"))
+                .addServer(createConstructibleInstance(Server.class).url("https://example.com/v1"))
+                .addTag(createConstructibleInstance(Tag.class).name("pets"))
+                .paths(createConstructibleInstance(Paths.class)
+                        .addPathItem("/pets", createConstructibleInstance(PathItem.class).GET(listPets)))
+                .components(createConstructibleInstance(Components.class)
+                        .addSchema("Pet", pet)
+                        .addSchema("Tag", tag))
+                .addExtension("x-sample", "sample value");
+    }
+
+    // Checks that the given document contains the values set by createSampleOpenAPI.
+    private void checkSampleOpenAPI(OpenAPI o) {
+        assertEquals(o.getOpenapi(), "3.1.0", "OpenAPI.openapi is expected to be equal to the value that was set.");
+        assertEquals(o.getInfo().getTitle(), "Pets", "Info.title is expected to be equal to the value that was set.");
+        assertEquals(o.getServers().size(), 1, "OpenAPI.servers is expected to contain one entry.");
+        assertEquals(o.getServers().get(0).getUrl(), "https://example.com/v1",
+                "Server.url is expected to be equal to the value that was set.");
+        assertEquals(o.getTags().size(), 1, "OpenAPI.tags is expected to contain one entry.");
+        assertEquals(o.getExtension("x-sample"), "sample value",
+                "The extension value is expected to be equal to the value that was set.");
+        assertEquals(o.getPaths().getPathItems().keySet(), Collections.singleton("/pets"),
+                "Paths is expected to contain a single path item.");
+        final Operation operation = o.getPaths().getPathItem("/pets").getGET();
+        assertEquals(operation.getOperationId(), "listPets",
+                "Operation.operationId is expected to be equal to the value that was set.");
+        assertEquals(operation.getParameters().size(), 1, "Operation.parameters is expected to contain one entry.");
+        assertEquals(operation.getParameters().get(0).getName(), "limit",
+                "Parameter.name is expected to be equal to the value that was set.");
+        final Schema items = operation.getResponses().getAPIResponse("200").getContent()
+                .getMediaType("application/json").getSchema().getItems();
+        assertEquals(items.getRef(), "#/components/schemas/Pet",
+                "Schema.ref is expected to be equal to the value that was set.");
+        final Schema pet = o.getComponents().getSchemas().get("Pet");
+        assertEquals(pet.getProperties().keySet(), new HashSet<>(Arrays.asList("name", "tag")),
+                "Schema.properties is expected to contain the properties that were added.");
+        assertEquals(pet.getRequired(), Collections.singletonList("name"),
+                "Schema.required is expected to be equal to the value that was set.");
+        assertEquals(pet.get("x-custom"), "custom value",
+                "The custom schema property is expected to be equal to the value that was set.");
+        assertEquals(o.getComponents().getSchemas().size(), 2,
+                "Components.schemas is expected to contain two entries.");
+    }
+
+    private void checkUnsupported(Runnable mutation, String methodName) {
+        try {
+            mutation.run();
+        } catch (UnsupportedOperationException e) {
+            return;
+        }
+        fail(methodName + " is expected to throw an UnsupportedOperationException on a frozen model.");
+    }
+
     private <T extends Constructible> T processConstructible(Class<T> clazz) {
         return processConstructible(clazz, Collections.emptySet());
     }
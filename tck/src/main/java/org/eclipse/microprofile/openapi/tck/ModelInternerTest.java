@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.eclipse.microprofile.openapi.tck.ModelConstructionTest.assertNotSame;
+import static org.eclipse.microprofile.openapi.tck.ModelConstructionTest.assertSame;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.ModelInterner;
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * This test covers the ModelInterner, which replaces structurally equal schemas with a canonical instance and moves
+ * repeated schemas into the components.
+ */
+public class ModelInternerTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class);
+    }
+
+    @Test
+    public void internSchemaTest() {
+        final ModelInterner interner = OASFactory.createModelInterner();
+        assertNotNull(interner, "The return value of OASFactory.createModelInterner() must not be null.");
+
+        final Schema first = timestamp();
+        assertSame(interner.intern(first), first, "The first schema interned is expected to be the canonical one.");
+        assertSame(interner.intern(timestamp()), first,
+                "A structurally equal schema is expected to be interned to the canonical instance.");
+        final Schema date = OASFactory.createSchema().addType(Schema.SchemaType.STRING).format("date");
+        assertSame(interner.intern(date), date, "A different schema is expected to be its own canonical instance.");
+
+        // Nested schemas are interned and replaced
+        final Schema event = OASFactory.createSchema()
+                .addType(Schema.SchemaType.OBJECT)
+                .addProperty("id", OASFactory.createSchema().addType(Schema.SchemaType.INTEGER))
+                .addProperty("createdAt", timestamp());
+        assertSame(interner.intern(event), event, "The first schema interned is expected to be the canonical one.");
+        assertSame(event.getProperties().get("createdAt"), first,
+                "A nested schema is expected to be replaced with its canonical instance.");
+
+        // The order of the properties is significant
+        final Schema reordered = OASFactory.createSchema()
+                .addType(Schema.SchemaType.OBJECT)
+                .addProperty("createdAt", timestamp())
+                .addProperty("id", OASFactory.createSchema().addType(Schema.SchemaType.INTEGER));
+        assertSame(interner.intern(reordered), reordered,
+                "Schemas with properties in a different order are not expected to be structurally equal.");
+
+        // Custom properties are compared too
+        final Schema custom = timestamp();
+        custom.set("x-custom", "value");
+        assertSame(interner.intern(custom), custom,
+                "Schemas with different custom properties are not expected to be structurally equal.");
+    }
+
+    @Test
+    public void internDocumentTest() {
+        final OpenAPI openAPI = createDocument();
+        final Schema pet = openAPI.getComponents().getSchemas().get("Pet");
+        final int replaced = OASFactory.createModelInterner().intern(openAPI);
+        assertTrue(replaced >= 2, "At least two timestamp schemas are expected to be replaced, but got " + replaced);
+
+        assertSame(openAPI.getComponents().getSchemas().get("Pet"), pet,
+                "The schemas of the components are expected not to be replaced.");
+        assertSame(getResponseSchema(openAPI, "/pets", "200"), pet,
+                "A schema of the components is expected to be the canonical instance of structurally equal schemas.");
+
+        final Schema created = openAPI.getComponents().getSchemas().get("Pet").getProperties().get("createdAt");
+        assertSame(openAPI.getComponents().getSchemas().get("Order").getProperties().get("createdAt"), created,
+                "Structurally equal schemas of the components are expected to be the same instance.");
+        assertSame(getResponseSchema(openAPI, "/orders", "500").getProperties().get("time"), created,
+                "Structurally equal schemas of the paths are expected to be the same instance.");
+        assertSame(getResponseSchema(openAPI, "/pets", "500"), getResponseSchema(openAPI, "/orders", "500"),
+                "Structurally equal response schemas are expected to be the same instance.");
+    }
+
+    @Test
+    public void hoistTest() {
+        final OpenAPI openAPI = createDocument();
+        final Schema pet = openAPI.getComponents().getSchemas().get("Pet");
+        final Map<String, Schema> hoisted = OASFactory.createModelInterner().hoist(openAPI, 2,
+                s -> s.getType() != null && s.getType().contains(Schema.SchemaType.OBJECT) ? "Error" : null);
+
+        assertEquals(hoisted.keySet(), Collections.singleton("Error"),
+                "Only the repeated error schema is expected to be added to the components.");
+        final Schema error = openAPI.getComponents().getSchemas().get("Error");
+        assertSame(hoisted.get("Error"), error, "The returned schema is expected to be the new component.");
+        assertEquals(error.getProperties().keySet(), new HashSet<>(Arrays.asList("message", "time")),
+                "The new component is expected to be the error schema.");
+        for (String path : Arrays.asList("/pets", "/orders")) {
+            final Schema schema = getResponseSchema(openAPI, path, "500");
+            assertEquals(schema.getRef(), "#/components/schemas/Error",
+                    "A repeated schema is expected to be replaced with a reference to the new component.");
+            assertNotSame(schema, error, "A repeated schema is expected to be replaced with a reference.");
+        }
+
+        // Inline schemas equal to an existing component refer to it
+        assertEquals(getResponseSchema(openAPI, "/pets", "200").getRef(), "#/components/schemas/Pet",
+                "A schema equal to a component is expected to be replaced with a reference to it.");
+        assertEquals(getResponseSchema(openAPI, "/pets/new", "201").getRef(), "#/components/schemas/Pet",
+                "A schema equal to a component is expected to be replaced with a reference to it.");
+        assertSame(openAPI.getComponents().getSchemas().get("Pet"), pet,
+                "The schemas of the components are expected not to be replaced.");
+
+        // A schema which occurs once is left in place
+        final Schema order = getResponseSchema(openAPI, "/orders", "200");
+        assertNull(order.getRef(), "A schema which occurs once is expected to be left in place.");
+    }
+
+    @Test(expectedExceptions = {IllegalArgumentException.class})
+    public void hoistMinOccurrencesTest() {
+        OASFactory.createModelInterner().hoist(createDocument(), 1, s -> "Name");
+    }
+
+    private static Schema timestamp() {
+        return OASFactory.createSchema().addType(Schema.SchemaType.STRING).format("date-time");
+    }
+
+    private static Schema pet() {
+        return OASFactory.createSchema()
+                .addType(Schema.SchemaType.OBJECT)
+                .addProperty("name", OASFactory.createSchema().addType(Schema.SchemaType.STRING))
+                .addProperty("createdAt", timestamp());
+    }
+
+    private static Schema error() {
+        return OASFactory.createSchema()
+                .addType(Schema.SchemaType.OBJECT)
+                .addProperty("message", OASFactory.createSchema().addType(Schema.SchemaType.STRING))
+                .addProperty("time", timestamp());
+    }
+
+    private static Operation operation(String successCode, Schema success) {
+        return OASFactory.createOperation()
+                .responses(OASFactory.createAPIResponses()
+                        .addAPIResponse(successCode, response(success))
+                        .addAPIResponse("500", response(error())));
+    }
+
+    private static APIResponse response(Schema schema) {
+        return OASFactory.createAPIResponse()
+                .description("Response")
+                .content(OASFactory.createContent()
+                        .addMediaType("application/json", OASFactory.createMediaType().schema(schema)));
+    }
+
+    private static Schema getResponseSchema(OpenAPI openAPI, String path, String code) {
+        final Operation operation = openAPI.getPaths().getPathItem(path).getGET() != null
+                ? openAPI.getPaths().getPathItem(path).getGET()
+                : openAPI.getPaths().getPathItem(path).getPOST();
+        return operation.getResponses().getAPIResponse(code).getContent().getMediaType("application/json")
+                .getSchema();
+    }
+
+    // The pet schema occurs twice inline and once in the components, the error schema three times inline.
+    private static OpenAPI createDocument() {
+        final Schema order = OASFactory.createSchema()
+                .addType(Schema.SchemaType.OBJECT)
+                .addProperty("quantity", OASFactory.createSchema().addType(Schema.SchemaType.INTEGER))
+                .addProperty("createdAt", timestamp());
+        return OASFactory.createOpenAPI()
+                .openapi("3.1.0")
+                .info(OASFactory.createInfo().title("Interning").version("1.0"))
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/pets", OASFactory.createPathItem().GET(operation("200", pet())))
+                        .addPathItem("/pets/new", OASFactory.createPathItem().POST(operation("201", pet())))
+                        .addPathItem("/orders", OASFactory.createPathItem().GET(operation("200", order))))
+                .components(OASFactory.createComponents()
+                        .addSchema("Pet", pet())
+                        .addSchema("Order", OASFactory.createSchema()
+                                .addType(Schema.SchemaType.OBJECT)
+                                .addProperty("createdAt", timestamp())));
+    }
+}
@@ -0,0 +1,336 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.eclipse.microprofile.openapi.tck.ModelConstructionTest.assertNotSame;
+import static org.eclipse.microprofile.openapi.tck.ModelConstructionTest.assertSame;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.Constructible;
+import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.examples.Example;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.info.Contact;
+import org.eclipse.microprofile.openapi.models.info.Info;
+import org.eclipse.microprofile.openapi.models.info.License;
+import org.eclipse.microprofile.openapi.models.links.Link;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.Discriminator;
+import org.eclipse.microprofile.openapi.models.media.Encoding;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.XML;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.responses.APIResponses;
+import org.eclipse.microprofile.openapi.models.security.OAuthFlow;
+import org.eclipse.microprofile.openapi.models.security.OAuthFlows;
+import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.eclipse.microprofile.openapi.models.servers.ServerVariable;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+import org.eclipse.microprofile.openapi.spi.OASFactoryResolver;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.SkipException;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * This test covers the supplier based and batch methods of the OASFactoryResolver SPI, which are used by the OASFactory
+ * to create instances of the Constructible interfaces, and the lookup of the resolver per thread context class loader.
+ */
+public class OASFactoryResolverTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class)
+                .addPackages(true, "org.eclipse.microprofile.openapi.reader")
+                .addAsManifestResource("microprofile-reader.properties", "microprofile-config.properties");
+    }
+
+    @DataProvider(name = "constructibleProvider")
+    public Object[][] provideConstructibles() {
+        Class<?>[] classes = {Components.class, ExternalDocumentation.class, OpenAPI.class, Operation.class,
+                PathItem.class, Paths.class, Callback.class, Example.class, Header.class, Contact.class, Info.class,
+                License.class, Link.class, Content.class, Discriminator.class, Encoding.class, MediaType.class,
+                Schema.class, XML.class, Parameter.class, RequestBody.class, APIResponse.class, APIResponses.class,
+                OAuthFlow.class, OAuthFlows.class, SecurityRequirement.class, SecurityScheme.class, Server.class,
+                ServerVariable.class, Tag.class};
+        Object[][] result = new Object[classes.length][];
+        for (int i = 0; i < classes.length; i++) {
+            result[i] = new Object[]{classes[i]};
+        }
+        return result;
+    }
+
+    @Test(dataProvider = "constructibleProvider")
+    public void supplierReusedTest(Class<? extends Constructible> clazz) {
+        final OASFactoryResolver resolver = OASFactoryResolver.instance();
+        final Supplier<? extends Constructible> s1 = resolver.getSupplier(clazz);
+        assertNotNull(s1, "The return value of getSupplier(" + clazz.getName() + ") must not be null.");
+        final Supplier<? extends Constructible> s2 = resolver.getSupplier(clazz);
+        assertSame(s2, s1, "getSupplier(" + clazz.getName()
+                + ") is expected to return the same supplier on each invocation.");
+    }
+
+    @Test(dataProvider = "constructibleProvider")
+    public void supplierCreatesNewInstancesTest(Class<? extends Constructible> clazz) {
+        final Supplier<? extends Constructible> supplier = OASFactoryResolver.instance().getSupplier(clazz);
+        final Constructible o1 = supplier.get();
+        assertNotNull(o1, "The supplier for " + clazz.getName() + " must not return null.");
+        assertTrue(clazz.isInstance(o1),
+                "The supplier for " + clazz.getName() + " is expected to return an instance of: " + clazz.getName());
+        final Constructible o2 = OASFactoryResolver.instance().getSupplier(clazz).get();
+        assertNotNull(o2, "The supplier for " + clazz.getName() + " must not return null.");
+        assertNotSame(o2, o1,
+                "The supplier for " + clazz.getName() + " is expected to create a new object on each invocation.");
+    }
+
+    @Test(expectedExceptions = {NullPointerException.class})
+    public void nullSupplierTest() {
+        @SuppressWarnings("unused")
+        final Object o = OASFactoryResolver.instance().getSupplier(null);
+    }
+
+    @Test(dataProvider = "constructibleProvider")
+    public void createObjectsTest(Class<? extends Constructible> clazz) {
+        final List<? extends Constructible> objects = OASFactory.createObjects(clazz, 3);
+        assertNotNull(objects,
+                "The return value of OASFactory.createObjects(" + clazz.getName() + ") must not be null.");
+        assertEquals(objects.size(), 3, "OASFactory.createObjects(" + clazz.getName() + ", 3) must return 3 objects.");
+        for (int i = 0; i < objects.size(); i++) {
+            final Constructible o = objects.get(i);
+            assertNotNull(o, "OASFactory.createObjects(" + clazz.getName() + ") must not return null elements.");
+            assertTrue(clazz.isInstance(o),
+                    "OASFactory.createObjects() is expected to return instances of: " + clazz.getName());
+            for (int j = 0; j < i; j++) {
+                assertNotSame(o, objects.get(j), "OASFactory.createObjects(" + clazz.getName()
+                        + ") is expected to create a new object for each element.");
+            }
+            checkSameInitialState(clazz, o, OASFactory.createObject(clazz));
+        }
+        assertTrue(OASFactory.createObjects(clazz, 0).isEmpty(),
+                "OASFactory.createObjects(" + clazz.getName() + ", 0) must return an empty list.");
+    }
+
+    @Test(dataProvider = "constructibleProvider")
+    public void createSizedObjectTest(Class<? extends Constructible> clazz) {
+        final Constructible o = OASFactory.createObject(clazz, 100);
+        assertNotNull(o, "The return value of OASFactory.createObject(" + clazz.getName() + ", 100) must not be null.");
+        assertTrue(clazz.isInstance(o),
+                "OASFactory.createObject(Class, int) is expected to return an instance of: " + clazz.getName());
+        checkSameInitialState(clazz, o, OASFactory.createObject(clazz));
+    }
+
+    @Test
+    public void createObjectsIndependentTest() {
+        final List<Schema> schemas = OASFactory.createObjects(Schema.class, 2);
+        schemas.get(0).title("first").addProperty("a", OASFactory.createSchema());
+        schemas.get(1).title("second");
+        assertEquals(schemas.get(0).getTitle(), "first", "Schema title is expected to be the value that was set.");
+        assertEquals(schemas.get(1).getTitle(), "second", "Schema title is expected to be the value that was set.");
+        assertEquals(schemas.get(0).getProperties().size(), 1, "Schema properties are expected to contain one entry.");
+        assertTrue(schemas.get(1).getProperties() == null || schemas.get(1).getProperties().isEmpty(),
+                "Schema properties of another batch element are expected to be unaffected.");
+    }
+
+    @Test
+    public void createSizedContainersTest() {
+        final Paths paths = OASFactory.createPaths(1);
+        for (int i = 0; i < 10; i++) {
+            paths.addPathItem("/path" + i, OASFactory.createPathItem());
+        }
+        assertEquals(paths.getPathItems().size(), 10,
+                "A sized Paths is expected to accept more entries than the expected size.");
+
+        final APIResponses responses = OASFactory.createAPIResponses(2);
+        responses.addAPIResponse("200", OASFactory.createAPIResponse().description("OK"))
+                .addAPIResponse("404", OASFactory.createAPIResponse().description("Not found"))
+                .addAPIResponse("500", OASFactory.createAPIResponse().description("Error"));
+        assertEquals(responses.getAPIResponses().size(), 3, "APIResponses is expected to contain three entries.");
+        assertEquals(responses.getAPIResponse("404").getDescription(), "Not found",
+                "APIResponse description is expected to be the value that was set.");
+
+        final Components components = OASFactory.createComponents(0);
+        components.addSchema("a", OASFactory.createSchema());
+        assertEquals(components.getSchemas().size(), 1, "Components schemas are expected to contain one entry.");
+    }
+
+    @Test(expectedExceptions = {IllegalArgumentException.class})
+    public void negativeCountTest() {
+        @SuppressWarnings("unused")
+        final List<Schema> schemas = OASFactory.createObjects(Schema.class, -1);
+    }
+
+    @Test(expectedExceptions = {IllegalArgumentException.class})
+    public void negativeExpectedSizeTest() {
+        @SuppressWarnings("unused")
+        final Paths paths = OASFactory.createPaths(-1);
+    }
+
+    @Test(expectedExceptions = {NullPointerException.class})
+    public void nullCreateObjectsTest() {
+        @SuppressWarnings("unused")
+        final Object o = OASFactory.createObjects(null, 1);
+    }
+
+    @Test
+    public void classLoaderLookupTest() throws IOException {
+        final ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader first = new URLClassLoader(new URL[0], tccl);
+                URLClassLoader second = new URLClassLoader(new URL[0], tccl)) {
+            final OASFactoryResolver resolver = resolverFor(first);
+            assertNotNull(resolver, "The resolver of a child class loader must not be null.");
+            assertEquals(resolver.getClass(), OASFactoryResolver.instance().getClass(),
+                    "A child class loader is expected to use the resolver provided by its parent.");
+            assertSame(resolverFor(first), resolver, "The resolver is expected to be cached per class loader.");
+            assertEquals(resolverFor(second).getClass(), resolver.getClass(),
+                    "A child class loader is expected to use the resolver provided by its parent.");
+        }
+    }
+
+    @Test
+    public void setInstanceForClassLoaderTest() throws IOException {
+        final ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        final OASFactoryResolver delegate = OASFactoryResolver.instance();
+        try (URLClassLoader first = new URLClassLoader(new URL[0], tccl);
+                URLClassLoader second = new URLClassLoader(new URL[0], tccl)) {
+            final CountingResolver firstResolver = new CountingResolver(delegate);
+            final CountingResolver secondResolver = new CountingResolver(delegate);
+            OASFactoryResolver.setInstance(first, firstResolver);
+            OASFactoryResolver.setInstance(second, secondResolver);
+            try {
+                if (resolverFor(first) != firstResolver) {
+                    throw new SkipException("A global OASFactoryResolver instance has been set");
+                }
+                assertSame(resolverFor(second), secondResolver,
+                        "Each class loader is expected to use the resolver set for it.");
+                assertSame(resolverFor(first), firstResolver,
+                        "Each class loader is expected to use the resolver set for it.");
+
+                runWith(first, () -> assertNotNull(OASFactory.createSchema(),
+                        "The return value of OASFactory.createSchema() must not be null."));
+                assertEquals(firstResolver.created.get(), 1,
+                        "OASFactory is expected to use the resolver of the thread context class loader.");
+                assertEquals(secondResolver.created.get(), 0,
+                        "OASFactory is not expected to use the resolver of another class loader.");
+
+                OASFactoryResolver.setInstance(first, null);
+                assertNotSame(resolverFor(first), firstResolver,
+                        "A removed resolver is not expected to be used anymore.");
+                assertSame(resolverFor(second), secondResolver,
+                        "Removing the resolver of a class loader is not expected to affect other class loaders.");
+            } finally {
+                OASFactoryResolver.setInstance(first, null);
+                OASFactoryResolver.setInstance(second, null);
+            }
+        }
+    }
+
+    @Test
+    public void unrelatedClassLoaderTest() throws IOException {
+        // A class loader without parent, like the context class loader of a worker thread which cannot see the
+        // implementation
+        try (URLClassLoader unrelated = new URLClassLoader(new URL[0], null)) {
+            final OASFactoryResolver resolver = resolverFor(unrelated);
+            assertNotNull(resolver, "A thread whose context class loader cannot see the implementation is expected "
+                    + "to fall back to another resolver.");
+            assertEquals(resolver.getClass(), OASFactoryResolver.instance().getClass(),
+                    "A thread whose context class loader cannot see the implementation is expected to use the "
+                            + "resolver of the implementation.");
+            runWith(unrelated, () -> assertNotNull(OASFactory.createSchema(),
+                    "The return value of OASFactory.createSchema() must not be null."));
+        }
+    }
+
+    @Test(expectedExceptions = {NullPointerException.class})
+    public void nullClassLoaderTest() {
+        OASFactoryResolver.setInstance(null, OASFactoryResolver.instance());
+    }
+
+    private static OASFactoryResolver resolverFor(ClassLoader cl) {
+        final OASFactoryResolver[] result = new OASFactoryResolver[1];
+        runWith(cl, () -> result[0] = OASFactoryResolver.instance());
+        return result[0];
+    }
+
+    private static void runWith(ClassLoader cl, Runnable action) {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(cl);
+        try {
+            action.run();
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    // A resolver which counts the objects it creates and delegates to the resolver of the implementation.
+    private static class CountingResolver extends OASFactoryResolver {
+
+        private final OASFactoryResolver delegate;
+        private final AtomicInteger created = new AtomicInteger();
+
+        CountingResolver(OASFactoryResolver delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public <T extends Constructible> T createObject(Class<T> clazz) {
+            created.incrementAndGet();
+            return delegate.createObject(clazz);
+        }
+    }
+
+    // Compares the values returned by the getter methods of two newly created instances.
+    private void checkSameInitialState(Class<?> clazz, Object actual, Object expected) {
+        for (Method m : clazz.getMethods()) {
+            if (m.getParameterCount() == 0 && m.getName().startsWith("get") && !m.isDefault()) {
+                try {
+                    assertEquals(m.invoke(actual), m.invoke(expected), "The return value of " + m.getName()
+                            + "() is expected to be the same as for an individually created " + clazz.getName());
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    fail("Invocation of getter method \"" + m.getName() + "\" failed: " + e.getMessage(), e);
+                }
+            }
+        }
+    }
+}
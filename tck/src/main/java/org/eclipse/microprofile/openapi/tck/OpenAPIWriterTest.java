@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static io.restassured.RestAssured.given;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Iterator;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import io.restassured.http.ContentType;
+
+/**
+ * Tests that a document written with the OpenAPIWriter is structurally equal to the document served by the /openapi
+ * endpoint. Both documents are parsed and compared as trees, since the formatting of the two may differ.
+ * <p>
+ * The application builds the model of MyOASModelReaderImpl, which is also the configured model reader, and streams it
+ * with the OpenAPIWriter from a Jakarta REST resource. Annotation scanning is disabled, so the /openapi endpoint serves
+ * the same model.
+ */
+public class OpenAPIWriterTest extends AppTestBase {
+
+    @ArquillianResource
+    private URL deploymentURL;
+
+    @Deployment(name = "writer", testable = false)
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "writer.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.writer")
+                .addPackages(true, "org.eclipse.microprofile.openapi.reader")
+                .addAsManifestResource("microprofile-writer.properties", "microprofile-config.properties");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testWrittenDocumentMatchesEndpoint(String type) throws IOException {
+        ObjectMapper mapper = "JSON".equals(type) ? new ObjectMapper() : new ObjectMapper(new YAMLFactory());
+
+        byte[] served = given().accept("JSON".equals(type) ? ContentType.JSON : ContentType.ANY)
+                .when().get("/openapi").then().statusCode(200).extract().asByteArray();
+        byte[] written = given().when().get(new URL(deploymentURL, "document?format=" + type))
+                .then().statusCode(200).extract().asByteArray();
+
+        JsonNode servedDocument = mapper.readTree(served);
+        JsonNode writtenDocument = mapper.readTree(written);
+        assertTrue(writtenDocument.has("paths"), "The written document is expected to contain the paths of the model");
+        assertTrue(writtenDocument.has("components"),
+                "The written document is expected to contain the components of the model");
+
+        // The openapi version and the servers may be added to the served document by the vendor
+        Iterator<String> names = writtenDocument.fieldNames();
+        while (names.hasNext()) {
+            String name = names.next();
+            if (!"openapi".equals(name) && !"servers".equals(name)) {
+                assertEquals(writtenDocument.get(name), servedDocument.get(name),
+                        "The written document is expected to have the same " + name + " as the served document");
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+
+import org.eclipse.microprofile.openapi.OASConfig;
+import org.eclipse.microprofile.openapi.filter.PruningOASFilter;
+import org.eclipse.microprofile.openapi.tck.utils.ConfigAsset;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * Tests that the components which are not referenced from the paths and webhooks of the document, after the filter has
+ * removed the operation with the id <code>removed</code>, are removed when
+ * <code>mp.openapi.components.prune-unreferenced</code> is enabled.
+ */
+public class PruneUnreferencedComponentsTest extends AppTestBase {
+
+    @Deployment(name = "pruneUnreferenced", testable = false)
+    public static WebArchive createDeployment() {
+        ConfigAsset config = new ConfigAsset()
+                .put(OASConfig.FILTER, PruningOASFilter.class.getName())
+                .put(OASConfig.COMPONENTS_PRUNE_UNREFERENCED, "true");
+        return ShrinkWrap.create(WebArchive.class, "pruneUnreferenced.war")
+                .addClass(PruningOASFilter.class)
+                .addAsManifestResource("prune.yaml", "openapi.yaml")
+                .addAsManifestResource(config, "microprofile-config.properties");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testReferencedSchemasKept(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        // Referenced from a path, through another component, from a webhook and from a discriminator mapping
+        for (String name : new String[]{"Pet", "Tag", "Owner", "Error", "PetEvent", "PetAdded"}) {
+            vr.body("components.schemas", hasKey(name));
+        }
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testSchemasReferencedBySubtreeKept(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        // Only referenced by a pointer to one of their properties, from a path and through another component
+        for (String name : new String[]{"Label", "Nickname"}) {
+            vr.body("components.schemas", hasKey(name));
+        }
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testUnreferencedSchemasRemoved(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        // Only referenced from the removed operation, from a removed component, never, and from each other
+        for (String name : new String[]{"Removed", "RemovedChild", "Unused", "CycleA", "CycleB"}) {
+            vr.body("components.schemas", not(hasKey(name)));
+        }
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testOtherComponents(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("components.responses", hasKey("NotFound"));
+        vr.body("components.responses", not(hasKey("Unused")));
+        vr.body("components.parameters", hasKey("limit"));
+        vr.body("components.parameters", not(hasKey("unused")));
+        vr.body("components.examples", hasKey("pets"));
+        vr.body("components.examples", not(hasKey("unused")));
+        // Security schemes are referenced by name, so they are never removed
+        vr.body("components.securitySchemes", hasKey("apiKey"));
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import org.eclipse.microprofile.openapi.tck.utils.SyntheticApi;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+
+/**
+ * Checks the budgets for the application generated by {@link SyntheticApi}, with the sizes configured by the system
+ * properties described in {@link SyntheticApi#withSystemProperties()}. An application without the generated classes
+ * is deployed instead if no budget is set for <code>scale</code>, since the test is then skipped.
+ */
+public class ScaleBudgetTest extends BudgetTestBase {
+
+    public ScaleBudgetTest() {
+        super("scale", 60_000, 512L * 1024 * 1024);
+    }
+
+    @Deployment(name = "scaleBudget", testable = false)
+    public static WebArchive createDeployment() {
+        // Avoid generating and compiling the application for tests which are skipped
+        if (!isEnabled("scale")) {
+            return addBudgetProbe(ShrinkWrap.create(WebArchive.class, "scaleBudget.war"));
+        }
+        return addBudgetProbe(new SyntheticApi().withSystemProperties().createDeployment("scaleBudget"));
+    }
+}
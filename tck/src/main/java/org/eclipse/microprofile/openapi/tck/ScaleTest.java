@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static io.restassured.RestAssured.given;
+import static org.eclipse.microprofile.openapi.tck.Groups.SCALE;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.tck.utils.SyntheticApi;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Reporter;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import io.restassured.http.ContentType;
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * Tests the document of a large application generated by {@link SyntheticApi}, and reports the time taken by the
+ * requests of the /openapi endpoint and the size of the document. The size of the application can be changed with the
+ * system properties described in {@link SyntheticApi#withSystemProperties()}.
+ * <p>
+ * Since the application is compiled in the test JVM, which requires a Java compiler, and takes a while to build, the
+ * tests are skipped and an empty application is deployed unless at least one of these system properties is set. The
+ * default is used for a size which is not set.
+ */
+public class ScaleTest extends AppTestBase {
+
+    private static final SyntheticApi API = new SyntheticApi().withSystemProperties();
+
+    private static boolean firstRequest = true;
+
+    @Deployment(name = "scale", testable = false)
+    public static WebArchive createDeployment() {
+        if (!SyntheticApi.isConfigured()) {
+            return ShrinkWrap.create(WebArchive.class, "scale.war");
+        }
+        long start = System.nanoTime();
+        WebArchive war = API.createDeployment("scale");
+        Reporter.log("Generated and compiled " + API.getResources() + " resources and " + API.getModels()
+                + " models in " + elapsedMillis(start) + " ms", true);
+        return war;
+    }
+
+    @Test(dataProvider = "formatProvider", groups = SCALE, priority = -1)
+    public void testDocumentSize(String type) {
+        checkConfigured();
+        long start = System.nanoTime();
+        byte[] document = given().accept("JSON".equals(type) ? ContentType.JSON : ContentType.ANY)
+                .when().get("/openapi").then().statusCode(200).extract().asByteArray();
+        long millis = elapsedMillis(start);
+
+        String request;
+        synchronized (ScaleTest.class) {
+            request = firstRequest ? "First request" : "Request";
+            firstRequest = false;
+        }
+        Reporter.log(request + " of the " + type + " document with " + API.getPathCount() + " paths took " + millis
+                + " ms, document size is " + document.length + " bytes", true);
+    }
+
+    @Test(dataProvider = "formatProvider", groups = SCALE)
+    public void testPaths(String type) {
+        checkConfigured();
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("paths", aMapWithSize(API.getPathCount()));
+
+        int lastResource = API.getResources() - 1;
+        int lastOperation = API.getOperationsPerResource() - 1;
+        checkOperation(vr, 0, 0);
+        checkOperation(vr, lastResource / 2, lastOperation / 2);
+        checkOperation(vr, lastResource, lastOperation);
+        if (lastOperation > 0) {
+            checkOperation(vr, lastResource, lastOperation - 1);
+        }
+    }
+
+    private void checkOperation(ValidatableResponse vr, int resource, int operation) {
+        String path = "paths.'" + API.getPath(resource, operation) + "'."
+                + (SyntheticApi.isGet(operation) ? "get" : "post");
+        vr.body(path + ".operationId", equalTo(API.getOperationId(resource, operation)));
+
+        String model = "Model" + API.getModelIndex(resource, operation);
+        String schema = SyntheticApi.isGet(operation)
+                ? dereference(vr, path + ".responses.'200'.content.'application/json'.schema")
+                : dereference(vr, path + ".requestBody.content.'application/json'.schema");
+        vr.body(schema + ".description", equalTo("Model " + API.getModelIndex(resource, operation)));
+        vr.body("components.schemas", hasKey(model));
+    }
+
+    @Test(dataProvider = "formatProvider", groups = SCALE)
+    public void testCallbacks(String type) {
+        checkConfigured();
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("paths.findAll { it.value.post?.callbacks != null }.size()", equalTo(API.getCallbackCount()));
+    }
+
+    @Test(dataProvider = "formatProvider", groups = SCALE)
+    public void testSchemaDepth(String type) {
+        checkConfigured();
+        ValidatableResponse vr = callEndpoint(type);
+        String model = "components.schemas.Model0";
+        vr.body(dereference(vr, model, "properties.kind") + ".enum", hasSize(API.getEnumWidth()));
+
+        String schema = model;
+        for (int level = 1; level <= API.getDepth(); level++) {
+            schema = dereference(vr, schema, "properties.child");
+            vr.body(schema + ".description", equalTo("Level " + level + " of model 0"));
+            vr.body(schema + ".properties", hasKey("level"));
+        }
+        vr.body(schema + ".properties", not(hasKey("child")));
+    }
+
+    private static void checkConfigured() {
+        if (!SyntheticApi.isConfigured()) {
+            throw new SkipException("The scale tests are enabled by setting at least one of the system properties "
+                    + SyntheticApi.PROPERTY_PREFIX + "*");
+        }
+    }
+
+    private static long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import org.jboss.arquillian.container.spi.client.container.DeploymentException;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.ShouldThrowException;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the deployment of an application without a snapshot fails when mp.openapi.snapshot is set to require.
+ */
+public class SnapshotRequiredMissingTest extends Arquillian {
+
+    @Deployment(name = "snapshotRequiredMissing", testable = false)
+    @ShouldThrowException(DeploymentException.class)
+    public static WebArchive createDeployment() {
+        return SnapshotTestBase.createArchive("snapshotRequiredMissing", "require");
+    }
+
+    @Test
+    public void testDeploymentFails() {
+        // The deployment is expected to fail
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.IOException;
+import java.net.URL;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the document processed by the SnapshotGenerator is the same as the document served by the /openapi
+ * endpoint for an application without a snapshot, and that the SnapshotGenerator writes a snapshot.
+ */
+public class SnapshotTest extends SnapshotTestBase {
+
+    @Deployment(name = "snapshot", testable = false)
+    public static WebArchive createDeployment() {
+        return createArchive("snapshot", null);
+    }
+
+    @Test
+    public void testGenerateSnapshot() throws IOException {
+        given().when().get(new URL(getDeploymentURL(), "snapshot/generate"))
+                .then().statusCode(200).body(equalTo("true"));
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static io.restassured.RestAssured.given;
+import static org.testng.Assert.assertEquals;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.microprofile.openapi.OASConfig;
+import org.eclipse.microprofile.openapi.reader.MyOASModelReaderImpl;
+import org.eclipse.microprofile.openapi.tck.utils.ConfigAsset;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import io.restassured.http.ContentType;
+
+/**
+ * Base class for the tests of build time snapshots. The application uses a model reader, a static file and
+ * annotations, so that each of these processing steps contributes to the document, and serves the document processed
+ * by the SnapshotGenerator at runtime, which is compared with the document served by the /openapi endpoint.
+ */
+public abstract class SnapshotTestBase extends AppTestBase {
+
+    @ArquillianResource
+    private URL deploymentURL;
+
+    /**
+     * Creates the snapshot application.
+     *
+     * @param name
+     *            the name of the deployment, without the .war extension
+     * @param snapshot
+     *            the value of mp.openapi.snapshot, or null to use the default
+     * @return the deployment
+     */
+    static WebArchive createArchive(String name, String snapshot) {
+        ConfigAsset config = new ConfigAsset()
+                .put(OASConfig.MODEL_READER, MyOASModelReaderImpl.class.getName());
+        if (snapshot != null) {
+            config.put(OASConfig.SNAPSHOT, snapshot);
+        }
+        return ShrinkWrap.create(WebArchive.class, name + ".war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.snapshot")
+                .addPackages(true, "org.eclipse.microprofile.openapi.reader")
+                .addAsManifestResource("simpleapi.yaml", "openapi.yaml")
+                .addAsManifestResource(config, "microprofile-config.properties");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testServedDocumentMatchesProcessed(String type) throws IOException {
+        ObjectMapper mapper = "JSON".equals(type) ? new ObjectMapper() : new ObjectMapper(new YAMLFactory());
+
+        byte[] served = given().accept("JSON".equals(type) ? ContentType.JSON : ContentType.ANY)
+                .when().get("/openapi").then().statusCode(200).extract().asByteArray();
+        byte[] processed = given().when().get(new URL(deploymentURL, "snapshot?format=" + type))
+                .then().statusCode(200).extract().asByteArray();
+
+        JsonNode servedDocument = mapper.readTree(served);
+        JsonNode processedDocument = mapper.readTree(processed);
+
+        // The openapi version and the servers may be added to the served document by the vendor
+        Set<String> names = new TreeSet<>();
+        servedDocument.fieldNames().forEachRemaining(names::add);
+        processedDocument.fieldNames().forEachRemaining(names::add);
+        names.remove("openapi");
+        names.remove("servers");
+        for (String name : names) {
+            assertEquals(servedDocument.get(name), processedDocument.get(name), "The served document is expected to "
+                    + "have the same " + name + " as the document processed by the SnapshotGenerator");
+        }
+    }
+
+    protected URL getDeploymentURL() {
+        return deploymentURL;
+    }
+}
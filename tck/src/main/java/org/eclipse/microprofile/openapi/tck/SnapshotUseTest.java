@@ -0,0 +1,33 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import org.eclipse.microprofile.openapi.tck.utils.SnapshotArchives;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+
+/**
+ * Tests that an application deployed with a build time snapshot and mp.openapi.snapshot set to use serves the same
+ * document as the one processed at runtime.
+ */
+public class SnapshotUseTest extends SnapshotTestBase {
+
+    @Deployment(name = "snapshotUse", testable = false)
+    public static WebArchive createDeployment() {
+        return SnapshotArchives.addSnapshot(createArchive("snapshotUse", "use"));
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.collection.IsMapWithSize.aMapWithSize;
+
+import org.eclipse.microprofile.openapi.tck.utils.GeneratedDocumentAsset;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * Test that a large generated static document is read completely. See {@link GeneratedDocumentAsset} for the content
+ * of the document.
+ */
+public class StaticDocumentLargeTest extends AppTestBase {
+
+    private static final int PATH_COUNT = 5000;
+    private static final int SCHEMA_COUNT = 2500;
+
+    @Deployment(name = "staticlarge", testable = false)
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "staticlarge.war")
+                .addAsManifestResource(new GeneratedDocumentAsset(PATH_COUNT, SCHEMA_COUNT), "openapi.yaml");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testStaticDocumentLarge(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+
+        vr.body("openapi", startsWith("3.1."));
+        vr.body("info.title", equalTo("Generated API"));
+        vr.body("paths", aMapWithSize(PATH_COUNT));
+        vr.body("components.schemas", aMapWithSize(SCHEMA_COUNT));
+
+        for (int i : new int[]{0, PATH_COUNT / 2, PATH_COUNT - 1}) {
+            final String operation = "paths.'/items/" + i + "'.get";
+            vr.body(operation + ".operationId", equalTo("getItem" + i));
+            vr.body(operation + ".parameters.name", contains("expand"));
+            vr.body(operation + ".responses.'200'.description", equalTo("Item " + i));
+            vr.body(operation + ".responses.'200'.content.'application/json'.schema.$ref",
+                    equalTo("#/components/schemas/Item" + (i % SCHEMA_COUNT)));
+        }
+
+        for (int i : new int[]{0, SCHEMA_COUNT / 2, SCHEMA_COUNT - 1}) {
+            final String schema = "components.schemas.Item" + i;
+            vr.body(schema + ".type", equalTo("object"));
+            vr.body(schema + ".x-index", equalTo(i));
+            vr.body(schema + ".required", contains("id"));
+            vr.body(schema + ".properties.id.format", equalTo("int64"));
+            vr.body(schema + ".properties.name.maxLength", equalTo(255));
+            vr.body(schema + ".properties.next.$ref",
+                    equalTo("#/components/schemas/Item" + ((i + 1) % SCHEMA_COUNT)));
+        }
+    }
+
+}
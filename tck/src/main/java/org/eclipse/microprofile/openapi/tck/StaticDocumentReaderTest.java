@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.eclipse.microprofile.openapi.DocumentFormat;
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.StaticDocumentReader;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.tck.utils.GeneratedDocumentAsset;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * This test covers the StaticDocumentReader and its round trip with the OpenAPIWriter, using a large generated
+ * document. See {@link GeneratedDocumentAsset} for the content of the document.
+ */
+public class StaticDocumentReaderTest extends Arquillian {
+
+    private static final GeneratedDocumentAsset DOCUMENT = new GeneratedDocumentAsset(2000, 1000);
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class)
+                .addClass(GeneratedDocumentAsset.class);
+    }
+
+    @Test
+    public void readYamlTest() throws IOException {
+        final OpenAPI openAPI = read(DOCUMENT.toBytes(), DocumentFormat.YAML);
+        checkDocument(openAPI);
+        assertFalse(openAPI.isFrozen(), "The model returned by the StaticDocumentReader is expected to be mutable.");
+        openAPI.getInfo().setTitle("Changed");
+        assertEquals(openAPI.getInfo().getTitle(), "Changed", "Info.title is expected to be the value that was set.");
+    }
+
+    @Test
+    public void readJsonTest() throws IOException {
+        final byte[] json = write(read(DOCUMENT.toBytes(), DocumentFormat.YAML), DocumentFormat.JSON);
+        checkDocument(read(json, DocumentFormat.JSON));
+    }
+
+    @Test
+    public void roundTripTest() throws IOException {
+        for (DocumentFormat format : DocumentFormat.values()) {
+            final byte[] written = write(read(DOCUMENT.toBytes(), DocumentFormat.YAML), format);
+            final byte[] rewritten = write(read(written, format), format);
+            assertEquals(rewritten, written, "Reading a written " + format
+                    + " document and writing it again is expected to produce the same document.");
+        }
+    }
+
+    @Test
+    public void readChannelTest() throws IOException {
+        final StaticDocumentReader reader = OASFactory.createDocumentReader();
+        final OpenAPI fromStream = reader.read(new ByteArrayInputStream(DOCUMENT.toBytes()), DocumentFormat.YAML);
+        final OpenAPI fromChannel = reader.read(
+                Channels.newChannel(new ByteArrayInputStream(DOCUMENT.toBytes())), DocumentFormat.YAML);
+        checkDocument(fromChannel);
+        assertEquals(write(fromChannel, DocumentFormat.JSON), write(fromStream, DocumentFormat.JSON),
+                "Reading from a channel is expected to produce the same model as reading from a stream.");
+    }
+
+    @Test(expectedExceptions = {IOException.class})
+    public void malformedDocumentTest() throws IOException {
+        final byte[] truncated = Arrays.copyOf(DOCUMENT.toBytes(), 1000);
+        read(("{" + new String(truncated, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8),
+                DocumentFormat.JSON);
+    }
+
+    @Test(expectedExceptions = {NullPointerException.class})
+    public void nullFormatTest() throws IOException {
+        OASFactory.createDocumentReader().read(new ByteArrayInputStream(DOCUMENT.toBytes()), null);
+    }
+
+    private static OpenAPI read(byte[] document, DocumentFormat format) throws IOException {
+        final OpenAPI openAPI = OASFactory.createDocumentReader().read(new ByteArrayInputStream(document), format);
+        assertNotNull(openAPI, "The StaticDocumentReader must not return null.");
+        return openAPI;
+    }
+
+    private static byte[] write(OpenAPI openAPI, DocumentFormat format) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OASFactory.createWriter().write(openAPI, format, out);
+        return out.toByteArray();
+    }
+
+    private static void checkDocument(OpenAPI openAPI) {
+        assertEquals(openAPI.getOpenapi(), "3.1.0", "OpenAPI.openapi is expected to be the value in the document.");
+        assertEquals(openAPI.getInfo().getTitle(), "Generated API",
+                "Info.title is expected to be the value in the document.");
+        assertEquals(openAPI.getPaths().getPathItems().size(), DOCUMENT.getPathCount(),
+                "Paths are expected to contain every path of the document.");
+        assertEquals(openAPI.getComponents().getSchemas().size(), DOCUMENT.getSchemaCount(),
+                "Components.schemas are expected to contain every schema of the document.");
+
+        final int i = DOCUMENT.getPathCount() - 1;
+        final Operation operation = openAPI.getPaths().getPathItem("/items/" + i).getGET();
+        assertEquals(operation.getOperationId(), "getItem" + i,
+                "Operation.operationId is expected to be the value in the document.");
+        assertEquals(operation.getParameters().get(0).getSchema().getType(), Arrays.asList(Schema.SchemaType.BOOLEAN),
+                "Schema.type is expected to be the value in the document.");
+        assertEquals(operation.getResponses().getAPIResponse("200").getContent().getMediaType("application/json")
+                .getSchema().getRef(), "#/components/schemas/Item" + (i % DOCUMENT.getSchemaCount()),
+                "Schema.ref is expected to be the value in the document.");
+
+        final Schema schema = openAPI.getComponents().getSchemas().get("Item0");
+        assertEquals(schema.getRequired(), Arrays.asList("id"),
+                "Schema.required is expected to be the value in the document.");
+        assertEquals(schema.getProperties().get("name").getMaxLength(), Integer.valueOf(255),
+                "Schema.maxLength is expected to be the value in the document.");
+        assertEquals(schema.getProperties().get("next").getRef(), "#/components/schemas/Item1",
+                "Schema.ref is expected to be the value in the document.");
+        assertEquals(((Number) schema.get("x-index")).intValue(), 0,
+                "Schema properties are expected to contain the extensions in the document.");
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.eclipse.microprofile.openapi.processor.AnnotationIndexProcessor;
+import org.jboss.shrinkwrap.api.asset.Asset;
+
+/**
+ * Builds an annotation index in the format written by the {@link AnnotationIndexProcessor}, from the annotations of
+ * the given classes, for deployments whose classes are not compiled with the processor. As with the processor, a class
+ * is listed with the annotations declared by its superclasses and implemented interfaces, and classes which do not use
+ * MicroProfile OpenAPI or Jakarta REST annotations are not listed.
+ * <p>
+ * Example usage:
+ *
+ * <pre>
+ * <code>
+ * AnnotationIndexAsset index = new AnnotationIndexAsset()
+ *         .add(MyApplication.class, MyResource.class);
+ * WebArchive war = ShrinkWrap.create(WebArchive.class, "test.war")
+ *         .addPackages(true, "com.example.myPackage")
+ *         .addAsResource(index, AnnotationIndexProcessor.INDEX_LOCATION);
+ * </code>
+ * </pre>
+ */
+public class AnnotationIndexAsset implements Asset {
+
+    private static final String[] INDEXED_PACKAGES = {
+            "org.eclipse.microprofile.openapi.annotations.", "jakarta.ws.rs."};
+
+    private final Map<String, SortedSet<String>> index = new TreeMap<>();
+
+    public AnnotationIndexAsset add(Class<?>... classes) {
+        for (Class<?> clazz : classes) {
+            List<Annotation> annotations = getDeclaredAnnotations(clazz);
+            addInheritedAnnotations(clazz, new HashSet<>(), annotations);
+            SortedSet<String> annotationNames = new TreeSet<>();
+            for (Annotation annotation : annotations) {
+                String name = annotation.annotationType().getName();
+                for (String indexedPackage : INDEXED_PACKAGES) {
+                    if (name.startsWith(indexedPackage)) {
+                        annotationNames.add(name);
+                        break;
+                    }
+                }
+            }
+            if (!annotationNames.isEmpty()) {
+                index.computeIfAbsent(clazz.getName(), k -> new TreeSet<>()).addAll(annotationNames);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the annotations used on a class or on any of its members or parameters, excluding nested classes.
+     */
+    private static List<Annotation> getDeclaredAnnotations(Class<?> clazz) {
+        List<Annotation> annotations = new ArrayList<>(List.of(clazz.getDeclaredAnnotations()));
+        List<Executable> executables = new ArrayList<>(List.of(clazz.getDeclaredMethods()));
+        executables.addAll(List.of(clazz.getDeclaredConstructors()));
+        for (Executable executable : executables) {
+            annotations.addAll(List.of(executable.getDeclaredAnnotations()));
+            for (Annotation[] parameterAnnotations : executable.getParameterAnnotations()) {
+                annotations.addAll(List.of(parameterAnnotations));
+            }
+        }
+        for (Field field : clazz.getDeclaredFields()) {
+            annotations.addAll(List.of(field.getDeclaredAnnotations()));
+        }
+        return annotations;
+    }
+
+    /**
+     * Adds the annotations declared by all superclasses and implemented interfaces of a class.
+     */
+    private static void addInheritedAnnotations(Class<?> clazz, Set<Class<?>> visited, List<Annotation> annotations) {
+        List<Class<?>> supertypes = new ArrayList<>(List.of(clazz.getInterfaces()));
+        if (clazz.getSuperclass() != null) {
+            supertypes.add(clazz.getSuperclass());
+        }
+        for (Class<?> supertype : supertypes) {
+            if (visited.add(supertype)) {
+                annotations.addAll(getDeclaredAnnotations(supertype));
+                addInheritedAnnotations(supertype, visited, annotations);
+            }
+        }
+    }
+
+    @Override
+    public InputStream openStream() {
+        StringBuilder sb = new StringBuilder("# Written by AnnotationIndexAsset\n");
+        for (Map.Entry<String, SortedSet<String>> entry : index.entrySet()) {
+            sb.append(entry.getKey());
+            for (String annotation : entry.getValue()) {
+                sb.append(' ').append(annotation);
+            }
+            sb.append('\n');
+        }
+        return new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.tck.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.shrinkwrap.api.asset.Asset;
+
+/**
+ * Generates a large, regular OpenAPI document in YAML format, for tests which read or serve big static files.
+ * <p>
+ * The document contains {@code pathCount} paths named {@code /items/<i>}, each with a GET operation with operation id
+ * {@code getItem<i>} whose 200 response refers to schema {@code Item<i % schemaCount>}, and {@code schemaCount}
+ * schemas named {@code Item<j>}. Each schema has an {@code id}, a {@code name} and a {@code next} property, the last
+ * referring to the following schema, and an {@code x-index} extension.
+ * <p>
+ * Example usage:
+ *
+ * <pre>
+ * <code>
+ * WebArchive war = ShrinkWrap.create(WebArchive.class, "test.war")
+ *         .addAsManifestResource(new GeneratedDocumentAsset(1000, 500), "openapi.yaml");
+ * </code>
+ * </pre>
+ */
+public class GeneratedDocumentAsset implements Asset {
+
+    private final int pathCount;
+    private final int schemaCount;
+
+    public GeneratedDocumentAsset(int pathCount, int schemaCount) {
+        if (pathCount < 0 || schemaCount < 1) {
+            throw new IllegalArgumentException("Invalid document size: " + pathCount + " paths, " + schemaCount
+                    + " schemas");
+        }
+        this.pathCount = pathCount;
+        this.schemaCount = schemaCount;
+    }
+
+    public int getPathCount() {
+        return pathCount;
+    }
+
+    public int getSchemaCount() {
+        return schemaCount;
+    }
+
+    public String toYaml() {
+        StringBuilder yaml = new StringBuilder(512 * (pathCount + schemaCount));
+        yaml.append("openapi: 3.1.0\n")
+                .append("info:\n")
+                .append("  title: Generated API\n")
+                .append("  version: 1.0.0\n")
+                .append("paths:\n");
+        for (int i = 0; i < pathCount; i++) {
+            yaml.append("  /items/").append(i).append(":\n")
+                    .append("    get:\n")
+                    .append("      operationId: getItem").append(i).append('\n')
+                    .append("      parameters:\n")
+                    .append("        - name: expand\n")
+                    .append("          in: query\n")
+                    .append("          schema:\n")
+                    .append("            type: boolean\n")
+                    .append("      responses:\n")
+                    .append("        '200':\n")
+                    .append("          description: Item ").append(i).append('\n')
+                    .append("          content:\n")
+                    .append("            application/json:\n")
+                    .append("              schema:\n")
+                    .append("                $ref: '#/components/schemas/Item").append(i % schemaCount).append("'\n");
+        }
+        yaml.append("components:\n")
+                .append("  schemas:\n");
+        for (int i = 0; i < schemaCount; i++) {
+            yaml.append("    Item").append(i).append(":\n")
+                    .append("      type: object\n")
+                    .append("      x-index: ").append(i).append('\n')
+                    .append("      required:\n")
+                    .append("        - id\n")
+                    .append("      properties:\n")
+                    .append("        id:\n")
+                    .append("          type: integer\n")
+                    .append("          format: int64\n")
+                    .append("        name:\n")
+                    .append("          type: string\n")
+                    .append("          maxLength: 255\n")
+                    .append("        next:\n")
+                    .append("          $ref: '#/components/schemas/Item").append((i + 1) % schemaCount).append("'\n");
+        }
+        return yaml.toString();
+    }
+
+    public byte[] toBytes() {
+        return toYaml().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public InputStream openStream() {
+        return new ByteArrayInputStream(toBytes());
+    }
+
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.SnapshotGenerator;
+import org.jboss.shrinkwrap.api.exporter.ExplodedExporter;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+
+/**
+ * Adds build time snapshots of the OpenAPI document to test deployments.
+ * <p>
+ * The snapshot is generated in the test JVM, as a build tool would, with the {@link SnapshotGenerator} of the
+ * implementation. The implementation must therefore be on the class path of the test.
+ * <p>
+ * Example usage:
+ *
+ * <pre>
+ * <code>
+ * WebArchive war = ShrinkWrap.create(WebArchive.class, "test.war")
+ *         .addPackages(true, "com.example.myPackage")
+ *         .addAsManifestResource(config, "microprofile-config.properties");
+ * SnapshotArchives.addSnapshot(war);
+ * </code>
+ * </pre>
+ */
+public final class SnapshotArchives {
+
+    private SnapshotArchives() {
+    }
+
+    /**
+     * Generates the snapshot of the document of a web archive and adds it to the archive, below
+     * {@link SnapshotGenerator#SNAPSHOT_LOCATION} in {@code WEB-INF/classes}.
+     * <p>
+     * The archive is exported to a temporary directory. The snapshot is generated with a class loader which sees the
+     * classes and resources of {@code WEB-INF/classes} of the archive, and whose parent is the class loader of the
+     * test. The archive must therefore contain all the classes, resources and configuration of the application before
+     * this method is called.
+     *
+     * @param archive
+     *            the archive
+     * @return the archive
+     */
+    public static WebArchive addSnapshot(WebArchive archive) {
+        try {
+            Path directory = Files.createTempDirectory("snapshot");
+            File exploded = archive.as(ExplodedExporter.class).exportExploded(directory.toFile());
+            Path classes = exploded.toPath().resolve("WEB-INF").resolve("classes");
+
+            Thread thread = Thread.currentThread();
+            ClassLoader previous = thread.getContextClassLoader();
+            try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()},
+                    SnapshotArchives.class.getClassLoader())) {
+                thread.setContextClassLoader(loader);
+                OASFactory.createSnapshotGenerator().generate(loader, classes);
+            } finally {
+                thread.setContextClassLoader(previous);
+            }
+
+            List<Path> files;
+            try (Stream<Path> walk = Files.walk(classes.resolve(SnapshotGenerator.SNAPSHOT_LOCATION))) {
+                files = walk.filter(Files::isRegularFile).collect(Collectors.toList());
+            }
+            if (files.isEmpty()) {
+                throw new IllegalStateException("The SnapshotGenerator did not write a snapshot");
+            }
+            for (Path file : files) {
+                String target = classes.relativize(file).toString().replace(File.separatorChar, '/');
+                archive.addAsResource(file.toFile(), target);
+            }
+            return archive;
+        } catch (IOException e) {
+            throw new IllegalStateException("Generation of the snapshot of " + archive.getName() + " failed", e);
+        }
+    }
+}
@@ -0,0 +1,417 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+
+/**
+ * Generates and compiles a large Jakarta REST application with MicroProfile OpenAPI annotations, for tests of the
+ * behavior of implementations with big APIs.
+ * <p>
+ * The application is in package {@value #PACKAGE} and contains:
+ * <ul>
+ * <li>{@code resources} resource classes {@code Resource<r>} with path {@code /resource<r>}, each with
+ * {@code operationsPerResource} operations. Operation {@code k} is a GET of {@code /resource<r>/items<k>/{id}} with
+ * operation id {@code get<r>x<k>} if {@code k} is even, or a POST of {@code /resource<r>/items<k>} with operation id
+ * {@code create<r>x<k>} otherwise. Each operation uses the model class {@link #getModelIndex(int, int)}.</li>
+ * <li>a callback named {@code created<k>} on every POST operation whose index, counted over all operations, is a
+ * multiple of {@code callbackInterval}</li>
+ * <li>{@code models} model classes {@code Model<m>} with the properties {@code id}, {@code name}, {@code kind} and, if
+ * {@code depth} is not 0, {@code child}. The child is a chain of {@code depth} nested classes
+ * {@code Model<m>Level<d>}, each with a {@code level} property and, except for the last, a {@code child}
+ * property.</li>
+ * <li>an enum {@code WideEnum} with {@code enumWidth} constants {@code VALUE<i>}, which is the type of the {@code kind}
+ * property</li>
+ * </ul>
+ * The sizes can be overridden with system properties, see {@link #withSystemProperties()}.
+ * <p>
+ * Example usage:
+ *
+ * <pre>
+ * <code>
+ * SyntheticApi api = new SyntheticApi().resources(100).operationsPerResource(20);
+ * WebArchive war = api.createDeployment("scale");
+ * </code>
+ * </pre>
+ */
+public class SyntheticApi {
+
+    public static final String PACKAGE = "org.eclipse.microprofile.openapi.apps.scale";
+
+    /**
+     * Prefix of the system properties which override the sizes of the generated application, for example
+     * <code>mp.openapi.tck.scale.resources</code>.
+     */
+    public static final String PROPERTY_PREFIX = "mp.openapi.tck.scale.";
+
+    private int resources = 100;
+    private int operationsPerResource = 20;
+    private int models = 200;
+    private int depth = 5;
+    private int enumWidth = 500;
+    private int callbackInterval = 10;
+
+    public SyntheticApi resources(int resources) {
+        this.resources = positive("resources", resources);
+        return this;
+    }
+
+    public SyntheticApi operationsPerResource(int operationsPerResource) {
+        this.operationsPerResource = positive("operationsPerResource", operationsPerResource);
+        return this;
+    }
+
+    public SyntheticApi models(int models) {
+        this.models = positive("models", models);
+        return this;
+    }
+
+    public SyntheticApi depth(int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("depth must not be negative: " + depth);
+        }
+        this.depth = depth;
+        return this;
+    }
+
+    public SyntheticApi enumWidth(int enumWidth) {
+        this.enumWidth = positive("enumWidth", enumWidth);
+        return this;
+    }
+
+    public SyntheticApi callbackInterval(int callbackInterval) {
+        this.callbackInterval = positive("callbackInterval", callbackInterval);
+        return this;
+    }
+
+    /**
+     * Overrides the sizes with the values of the system properties with the prefix {@value #PROPERTY_PREFIX}, followed
+     * by the name of the size, if they are set.
+     *
+     * @return this SyntheticApi
+     */
+    public SyntheticApi withSystemProperties() {
+        resources(Integer.getInteger(PROPERTY_PREFIX + "resources", resources));
+        operationsPerResource(Integer.getInteger(PROPERTY_PREFIX + "operationsPerResource", operationsPerResource));
+        models(Integer.getInteger(PROPERTY_PREFIX + "models", models));
+        depth(Integer.getInteger(PROPERTY_PREFIX + "depth", depth));
+        enumWidth(Integer.getInteger(PROPERTY_PREFIX + "enumWidth", enumWidth));
+        callbackInterval(Integer.getInteger(PROPERTY_PREFIX + "callbackInterval", callbackInterval));
+        return this;
+    }
+
+    /**
+     * Returns whether at least one of the system properties with the prefix {@value #PROPERTY_PREFIX} is set, which
+     * enables the tests in the <code>scale</code> group.
+     *
+     * @return true if a size of the generated application is set with a system property
+     */
+    public static boolean isConfigured() {
+        return System.getProperties().stringPropertyNames().stream().anyMatch(name -> name.startsWith(PROPERTY_PREFIX));
+    }
+
+    private static int positive(String name, int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be positive: " + value);
+        }
+        return value;
+    }
+
+    public int getResources() {
+        return resources;
+    }
+
+    public int getOperationsPerResource() {
+        return operationsPerResource;
+    }
+
+    public int getModels() {
+        return models;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getEnumWidth() {
+        return enumWidth;
+    }
+
+    public int getCallbackInterval() {
+        return callbackInterval;
+    }
+
+    /**
+     * @return the number of paths, which is also the number of operations
+     */
+    public int getPathCount() {
+        return resources * operationsPerResource;
+    }
+
+    /**
+     * @return the number of operations with a callback
+     */
+    public int getCallbackCount() {
+        int count = 0;
+        for (int i = 0; i < getPathCount(); i++) {
+            if (hasCallback(i % operationsPerResource, i)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the index of the model class used by operation {@code operation} of resource {@code resource}
+     */
+    public int getModelIndex(int resource, int operation) {
+        return (resource * operationsPerResource + operation) % models;
+    }
+
+    /**
+     * @return the path of operation {@code operation} of resource {@code resource}
+     */
+    public String getPath(int resource, int operation) {
+        return "/resource" + resource + "/items" + operation + (isGet(operation) ? "/{id}" : "");
+    }
+
+    /**
+     * @return the operation id of operation {@code operation} of resource {@code resource}
+     */
+    public String getOperationId(int resource, int operation) {
+        return (isGet(operation) ? "get" : "create") + resource + "x" + operation;
+    }
+
+    public static boolean isGet(int operation) {
+        return operation % 2 == 0;
+    }
+
+    private boolean hasCallback(int operation, int index) {
+        return !isGet(operation) && index % callbackInterval == callbackInterval - 1;
+    }
+
+    /**
+     * Generates the source files of the application.
+     *
+     * @return the source of each class, by fully qualified class name
+     */
+    public Map<String, String> generateSources() {
+        Map<String, String> sources = new LinkedHashMap<>();
+        sources.put(PACKAGE + ".ScaleApplication", "package " + PACKAGE + ";\n\n"
+                + "@jakarta.ws.rs.ApplicationPath(\"/\")\n"
+                + "@org.eclipse.microprofile.openapi.annotations.OpenAPIDefinition(\n"
+                + "        info = @org.eclipse.microprofile.openapi.annotations.info.Info(title = \"Synthetic API\","
+                + " version = \"1.0\"))\n"
+                + "public class ScaleApplication extends jakarta.ws.rs.core.Application {\n}\n");
+
+        StringBuilder wideEnum = new StringBuilder("package " + PACKAGE + ";\n\npublic enum WideEnum {\n");
+        for (int i = 0; i < enumWidth; i++) {
+            wideEnum.append("    VALUE").append(i).append(i < enumWidth - 1 ? ",\n" : "\n");
+        }
+        sources.put(PACKAGE + ".WideEnum", wideEnum.append("}\n").toString());
+
+        for (int m = 0; m < models; m++) {
+            List<String[]> fields = new ArrayList<>();
+            fields.add(new String[]{"long", "id"});
+            fields.add(new String[]{"String", "name"});
+            fields.add(new String[]{"WideEnum", "kind"});
+            if (depth > 0) {
+                fields.add(new String[]{"Model" + m + "Level1", "child"});
+            }
+            sources.put(PACKAGE + ".Model" + m, model("Model" + m, "Model " + m, fields));
+            for (int d = 1; d <= depth; d++) {
+                fields = new ArrayList<>();
+                fields.add(new String[]{"int", "level"});
+                if (d < depth) {
+                    fields.add(new String[]{"Model" + m + "Level" + (d + 1), "child"});
+                }
+                sources.put(PACKAGE + ".Model" + m + "Level" + d,
+                        model("Model" + m + "Level" + d, "Level " + d + " of model " + m, fields));
+            }
+        }
+
+        for (int r = 0; r < resources; r++) {
+            sources.put(PACKAGE + ".Resource" + r, resource(r));
+        }
+        return sources;
+    }
+
+    private static String model(String name, String description, List<String[]> fields) {
+        StringBuilder sb = new StringBuilder("package " + PACKAGE + ";\n\n")
+                .append("@org.eclipse.microprofile.openapi.annotations.media.Schema(name = \"").append(name)
+                .append("\", description = \"").append(description).append("\")\n")
+                .append("public class ").append(name).append(" {\n");
+        for (String[] field : fields) {
+            sb.append("    private ").append(field[0]).append(' ').append(field[1]).append(";\n");
+        }
+        for (String[] field : fields) {
+            String property = Character.toUpperCase(field[1].charAt(0)) + field[1].substring(1);
+            sb.append("\n    public ").append(field[0]).append(" get").append(property).append("() {\n")
+                    .append("        return ").append(field[1]).append(";\n    }\n")
+                    .append("\n    public void set").append(property).append('(').append(field[0]).append(' ')
+                    .append(field[1]).append(") {\n")
+                    .append("        this.").append(field[1]).append(" = ").append(field[1]).append(";\n    }\n");
+        }
+        return sb.append("}\n").toString();
+    }
+
+    private String resource(int r) {
+        String annotations = "org.eclipse.microprofile.openapi.annotations.";
+        StringBuilder sb = new StringBuilder("package " + PACKAGE + ";\n\n")
+                .append("@jakarta.ws.rs.Path(\"/resource").append(r).append("\")\n")
+                .append("public class Resource").append(r).append(" {\n");
+        for (int k = 0; k < operationsPerResource; k++) {
+            String model = "Model" + getModelIndex(r, k);
+            String operationId = getOperationId(r, k);
+            sb.append('\n');
+            if (isGet(k)) {
+                sb.append("    @jakarta.ws.rs.GET\n")
+                        .append("    @jakarta.ws.rs.Path(\"/items").append(k).append("/{id}\")\n")
+                        .append("    @jakarta.ws.rs.Produces(\"application/json\")\n")
+                        .append("    @").append(annotations).append("Operation(operationId = \"").append(operationId)
+                        .append("\", summary = \"Get item ").append(k).append(" of resource ").append(r)
+                        .append("\")\n")
+                        .append("    @").append(annotations).append("responses.APIResponse(responseCode = \"200\",")
+                        .append(" description = \"The item\",\n")
+                        .append("            content = @").append(annotations)
+                        .append("media.Content(mediaType = \"application/json\",\n")
+                        .append("                    schema = @").append(annotations)
+                        .append("media.Schema(implementation = ").append(model).append(".class)))\n")
+                        .append("    public ").append(model).append(' ').append(operationId)
+                        .append("(@jakarta.ws.rs.PathParam(\"id\") long id) {\n")
+                        .append("        return null;\n    }\n");
+            } else {
+                sb.append("    @jakarta.ws.rs.POST\n")
+                        .append("    @jakarta.ws.rs.Path(\"/items").append(k).append("\")\n")
+                        .append("    @jakarta.ws.rs.Consumes(\"application/json\")\n")
+                        .append("    @").append(annotations).append("Operation(operationId = \"").append(operationId)
+                        .append("\", summary = \"Create item ").append(k).append(" of resource ").append(r)
+                        .append("\")\n")
+                        .append("    @").append(annotations).append("responses.APIResponse(responseCode = \"201\",")
+                        .append(" description = \"Created\")\n");
+                if (hasCallback(k, r * operationsPerResource + k)) {
+                    sb.append("    @").append(annotations).append("callbacks.Callback(name = \"created").append(k)
+                            .append("\", callbackUrlExpression = \"{$request.query.callbackUrl}\",\n")
+                            .append("            operations = @").append(annotations)
+                            .append("callbacks.CallbackOperation(method = \"post\", summary = \"Item created\",\n")
+                            .append("                    responses = @").append(annotations)
+                            .append("responses.APIResponse(responseCode = \"204\",")
+                            .append(" description = \"Acknowledged\")))\n");
+                }
+                sb.append("    public void ").append(operationId).append('(').append(model).append(" item) {\n")
+                        .append("    }\n");
+            }
+        }
+        return sb.append("}\n").toString();
+    }
+
+    /**
+     * Compiles the generated application with the system Java compiler, using the class path of the test.
+     *
+     * @return the bytes of each class file, by binary class name
+     */
+    public Map<String, byte[]> compile() {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("A Java compiler is required to compile the synthetic API");
+        }
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Map<String, ByteArrayOutputStream> classes = new LinkedHashMap<>();
+        List<JavaFileObject> units = new ArrayList<>();
+        for (Map.Entry<String, String> source : generateSources().entrySet()) {
+            units.add(new SimpleJavaFileObject(URI.create("string:///" + source.getKey().replace('.', '/')
+                    + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return source.getValue();
+                }
+            });
+        }
+
+        StandardJavaFileManager standardFileManager =
+                compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8);
+        try (ForwardingJavaFileManager<StandardJavaFileManager> fileManager =
+                new ForwardingJavaFileManager<StandardJavaFileManager>(standardFileManager) {
+                    @Override
+                    public JavaFileObject getJavaFileForOutput(Location location, String className,
+                            JavaFileObject.Kind kind, FileObject sibling) {
+                        return new SimpleJavaFileObject(URI.create("mem:///" + className.replace('.', '/')
+                                + kind.extension), kind) {
+                            @Override
+                            public OutputStream openOutputStream() {
+                                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                                classes.put(className, out);
+                                return out;
+                            }
+                        };
+                    }
+                }) {
+            List<String> options = List.of("-proc:none", "--release", "11",
+                    "-classpath", System.getProperty("java.class.path"));
+            if (!compiler.getTask(null, fileManager, diagnostics, options, null, units).call()) {
+                StringBuilder message = new StringBuilder("Compilation of the synthetic API failed:");
+                for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                    message.append('\n').append(diagnostic);
+                }
+                throw new IllegalStateException(message.toString());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Compilation of the synthetic API failed", e);
+        }
+
+        Map<String, byte[]> result = new LinkedHashMap<>();
+        classes.forEach((name, bytes) -> result.put(name, bytes.toByteArray()));
+        return result;
+    }
+
+    /**
+     * Generates and compiles the application, and creates a deployment which contains it.
+     *
+     * @param name
+     *            the name of the deployment, without the .war extension
+     * @return the deployment
+     */
+    public WebArchive createDeployment(String name) {
+        WebArchive war = ShrinkWrap.create(WebArchive.class, name + ".war");
+        for (Map.Entry<String, byte[]> clazz : compile().entrySet()) {
+            war.addAsResource(new ByteArrayAsset(clazz.getValue()), clazz.getKey().replace('.', '/') + ".class");
+        }
+        return war;
+    }
+}